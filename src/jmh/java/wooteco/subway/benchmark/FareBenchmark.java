@@ -0,0 +1,54 @@
+package wooteco.subway.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.domain.Fare;
+import wooteco.subway.domain.FareTable;
+import wooteco.subway.domain.discountpolicy.DiscountPolicyFactory;
+import wooteco.subway.domain.farepolicy.FarePolicyFactory;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FareBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+    private static final int MAX_DISTANCE = 200;
+    private static final int MAX_AGE = 80;
+
+    private final FareTable fareTable = new FareTable(1000);
+    private int[] distances;
+    private int[] ages;
+    private int query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        distances = new int[QUERY_COUNT];
+        ages = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            distances[i] = random.nextInt(MAX_DISTANCE) + 1;
+            ages[i] = random.nextInt(MAX_AGE) + 1;
+        }
+    }
+
+    @Benchmark
+    public int calculateWithFactories() {
+        int i = query++ & (QUERY_COUNT - 1);
+        Fare fare = new Fare(FarePolicyFactory.from(distances[i]), DiscountPolicyFactory.from(ages[i]));
+        return fare.calculate(distances[i], 900);
+    }
+
+    @Benchmark
+    public int calculateWithFareTable() {
+        int i = query++ & (QUERY_COUNT - 1);
+        return fareTable.calculate(distances[i], 900, ages[i]);
+    }
+}
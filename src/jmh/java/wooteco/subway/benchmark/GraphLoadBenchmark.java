@@ -0,0 +1,68 @@
+package wooteco.subway.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import wooteco.subway.SubwayApplication;
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.domain.Path;
+import wooteco.subway.domain.graph.StationGraph;
+import wooteco.subway.support.SyntheticNetworkGenerator;
+
+/**
+ * 인메모리 H2 에 적재한 합성 노선망으로 경로 그래프를 만든다.
+ * {@code findAll} 은 구간을 모두 {@link wooteco.subway.domain.Section} 으로 읽은 뒤 그래프를 만들고,
+ * {@code loadGraph} 는 행을 읽는 대로 그래프 빌더에 넘긴다. 할당량은 {@code -prof gc} 로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GraphLoadBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"1000", "10000", "100000"})
+    private int stationCount;
+
+    private ConfigurableApplicationContext context;
+    private SectionDao sectionDao;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SubwayApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1")
+                .run();
+        new SyntheticNetworkGenerator(SEED).generate(stationCount)
+                .insertInto(context.getBean(NamedParameterJdbcTemplate.class));
+        sectionDao = context.getBean(SectionDao.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.getBean(JdbcTemplate.class).execute("DROP ALL OBJECTS");
+        context.close();
+    }
+
+    @Benchmark
+    public Path findAll() {
+        return new Path(sectionDao.findAll());
+    }
+
+    @Benchmark
+    public StationGraph loadGraph() {
+        return sectionDao.loadGraph();
+    }
+}
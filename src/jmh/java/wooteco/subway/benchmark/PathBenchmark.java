@@ -0,0 +1,72 @@
+package wooteco.subway.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.domain.Path;
+import wooteco.subway.domain.PathResult;
+import wooteco.subway.domain.Sections;
+import wooteco.subway.domain.graph.SearchStrategy;
+import wooteco.subway.domain.graph.ShortestPathEngineFactory;
+import wooteco.subway.support.SyntheticNetwork;
+import wooteco.subway.support.SyntheticNetworkGenerator;
+
+/**
+ * 합성 노선망에서 탐색 방식별로 경로 생성과 최단 경로 조회 시간을 잰다.
+ * {@code ALL_PAIRS} 는 운영과 같은 {@link ShortestPathEngineFactory#ALL_PAIRS_MAX_STATIONS} 를 넘으면
+ * 거리표를 만들지 않고 다익스트라로 탐색하므로, 그 크기에서는 대체 탐색의 비용을 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int stationCount;
+
+    @Param({"DIJKSTRA", "BIDIRECTIONAL", "CONTRACTION_HIERARCHIES", "ALL_PAIRS", "ALT"})
+    private SearchStrategy strategy;
+
+    private Sections sections;
+    private Path path;
+    private long[] departureIds;
+    private long[] arrivalIds;
+    private int query;
+
+    @Setup
+    public void setUp() {
+        SyntheticNetwork network = new SyntheticNetworkGenerator(SEED).generate(stationCount);
+        sections = new Sections(network.getSections());
+        path = new Path(sections, strategy, ShortestPathEngineFactory.ALL_PAIRS_MAX_STATIONS);
+
+        Random random = new Random(SEED);
+        departureIds = new long[QUERY_COUNT];
+        arrivalIds = new long[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            departureIds[i] = random.nextInt(stationCount) + 1;
+            arrivalIds[i] = random.nextInt(stationCount) + 1;
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Path construct() {
+        return new Path(sections, strategy, ShortestPathEngineFactory.ALL_PAIRS_MAX_STATIONS);
+    }
+
+    @Benchmark
+    public PathResult find() {
+        int i = query++ & (QUERY_COUNT - 1);
+        return path.find(departureIds[i], arrivalIds[i]);
+    }
+}
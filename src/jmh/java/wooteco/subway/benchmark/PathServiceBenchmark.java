@@ -0,0 +1,80 @@
+package wooteco.subway.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import wooteco.subway.SubwayApplication;
+import wooteco.subway.service.PathService;
+import wooteco.subway.service.RouteGraph;
+import wooteco.subway.service.dto.PathServiceRequest;
+import wooteco.subway.service.dto.PathServiceResponse;
+import wooteco.subway.support.SyntheticNetworkGenerator;
+
+/**
+ * 인메모리 H2 에 합성 노선망을 적재하고 {@link PathService#findShortestPath} 를 호출한다.
+ * {@code routeCacheSize} 가 0 이면 매 요청마다 경로 탐색과 역 조회를 거친다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathServiceBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int QUERY_COUNT = 4096;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int stationCount;
+
+    @Param({"0", "1000"})
+    private int routeCacheSize;
+
+    private ConfigurableApplicationContext context;
+    private PathService pathService;
+    private PathServiceRequest[] requests;
+    private int query;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SubwayApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "subway.route-cache.max-size=" + routeCacheSize)
+                .run();
+        new SyntheticNetworkGenerator(SEED).generate(stationCount)
+                .insertInto(context.getBean(NamedParameterJdbcTemplate.class));
+        context.getBean(RouteGraph.class).refresh();
+        pathService = context.getBean(PathService.class);
+
+        Random random = new Random(SEED);
+        requests = new PathServiceRequest[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            long departureId = random.nextInt(stationCount) + 1;
+            long arrivalId = (departureId + random.nextInt(stationCount - 1)) % stationCount + 1;
+            requests[i] = new PathServiceRequest(departureId, arrivalId, random.nextInt(80) + 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.getBean(JdbcTemplate.class).execute("DROP ALL OBJECTS");
+        context.close();
+    }
+
+    @Benchmark
+    public PathServiceResponse findShortestPath() {
+        return pathService.findShortestPath(requests[query++ & (QUERY_COUNT - 1)]);
+    }
+}
@@ -0,0 +1,52 @@
+package wooteco.subway.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.domain.Path;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Sections;
+import wooteco.subway.domain.graph.SearchStrategy;
+import wooteco.subway.support.SyntheticNetworkGenerator;
+
+/**
+ * 구간 하나를 삭제하고 다시 추가한 새 경로를 만드는 시간을 잰다.
+ * 직전에 만든 경로에 이어서 반영하므로 운영에서 구간이 연달아 바뀌는 경우와 같다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathUpdateBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"1000", "10000", "100000"})
+    private int stationCount;
+
+    @Param({"DIJKSTRA", "CONTRACTION_HIERARCHIES"})
+    private SearchStrategy strategy;
+
+    private List<Section> sections;
+    private Path path;
+    private int update;
+
+    @Setup
+    public void setUp() {
+        sections = new SyntheticNetworkGenerator(SEED).generate(stationCount).getSections();
+        path = new Path(new Sections(sections), strategy);
+    }
+
+    @Benchmark
+    public Path update() {
+        Sections section = new Sections(List.of(sections.get(update++ % sections.size())));
+        path = path.update(section, section);
+        return path;
+    }
+}
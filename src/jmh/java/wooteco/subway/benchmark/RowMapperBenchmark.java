@@ -0,0 +1,87 @@
+package wooteco.subway.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import wooteco.subway.SubwayApplication;
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Sections;
+import wooteco.subway.domain.Station;
+import wooteco.subway.support.SyntheticNetworkGenerator;
+
+/**
+ * 모든 구간과 역을 읽어 도메인 객체로 매핑하는 비용을 잰다.
+ * {@code *ByLabel} 은 {@code SELECT *} 와 열 이름 조회를 쓰던 이전 방식이고, 나머지는 현재 DAO 를 호출한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RowMapperBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"10000", "100000"})
+    private int stationCount;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private SectionDao sectionDao;
+    private StationDao stationDao;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SubwayApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1")
+                .run();
+        new SyntheticNetworkGenerator(SEED).generate(stationCount)
+                .insertInto(context.getBean(NamedParameterJdbcTemplate.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        sectionDao = context.getBean(SectionDao.class);
+        stationDao = context.getBean(StationDao.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        context.close();
+    }
+
+    @Benchmark
+    public Sections findAllSectionsByLabel() {
+        return new Sections(jdbcTemplate.query("SELECT * FROM section", (rs, rowNum) -> new Section(rs.getLong("id"),
+                rs.getLong("line_id"), rs.getLong("up_station_id"), rs.getLong("down_station_id"),
+                rs.getInt("distance"), rs.getInt("position"))));
+    }
+
+    @Benchmark
+    public Sections findAllSections() {
+        return sectionDao.findAll();
+    }
+
+    @Benchmark
+    public List<Station> findAllStationsByLabel() {
+        return jdbcTemplate.query("SELECT * FROM station",
+                (rs, rowNum) -> new Station(rs.getLong("id"), rs.getString("name")));
+    }
+
+    @Benchmark
+    public List<Station> findAllStations() {
+        return stationDao.findAll();
+    }
+}
@@ -0,0 +1,37 @@
+package wooteco.subway.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.domain.Sections;
+import wooteco.subway.support.SyntheticNetworkGenerator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SectionsBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int stationCount;
+
+    private Sections network;
+
+    @Setup
+    public void setUp() {
+        network = new Sections(new SyntheticNetworkGenerator(SEED).generate(stationCount).getSections());
+    }
+
+    @Benchmark
+    public List<Long> getAllStationIds() {
+        return network.getAllStationIds();
+    }
+}
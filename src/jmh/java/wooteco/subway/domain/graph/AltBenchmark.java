@@ -0,0 +1,95 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import wooteco.subway.domain.Section;
+import wooteco.subway.support.SyntheticNetworkGenerator;
+
+/**
+ * 합성 노선망에서 ALT 와 다익스트라가 같은 질의에 확정하는 역 수와 시간을 비교한다.
+ * {@link SettleCounter} 가 패키지 전용이므로 엔진과 같은 패키지에 둔다. 질의당 확정 역 수는 {@code settled / queries} 이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AltBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    private int stationCount;
+
+    private DijkstraEngine dijkstra;
+    private AltEngine alt;
+    private int[] sources;
+    private int[] targets;
+    private int query;
+
+    @Setup
+    public void setUp() {
+        StationGraphBuilder builder = new StationGraphBuilder();
+        for (Section section : new SyntheticNetworkGenerator(SEED).generate(stationCount).getSections()) {
+            builder.addSection(section.getLineId(), section.getUpStationId(), section.getDownStationId(),
+                    section.getDistance());
+        }
+        StationGraph graph = builder.build();
+        dijkstra = new DijkstraEngine(graph);
+        alt = new AltEngine(graph);
+
+        Random random = new Random(SEED);
+        sources = new int[QUERY_COUNT];
+        targets = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            sources[i] = random.nextInt(graph.vertexCount());
+            targets[i] = random.nextInt(graph.vertexCount());
+        }
+    }
+
+    @Benchmark
+    public ShortestPath dijkstra(Settled settled) {
+        int i = query++ & (QUERY_COUNT - 1);
+        SettleCounter counter = new SettleCounter();
+        ShortestPath shortestPath = dijkstra.find(sources[i], targets[i], counter);
+        settled.record(counter);
+        return shortestPath;
+    }
+
+    @Benchmark
+    public ShortestPath alt(Settled settled) {
+        int i = query++ & (QUERY_COUNT - 1);
+        SettleCounter counter = new SettleCounter();
+        ShortestPath shortestPath = alt.find(sources[i], targets[i], counter);
+        settled.record(counter);
+        return shortestPath;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Settled {
+
+        public long settled;
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            settled = 0;
+            queries = 0;
+        }
+
+        private void record(SettleCounter counter) {
+            settled += counter.getCount();
+            queries++;
+        }
+    }
+}
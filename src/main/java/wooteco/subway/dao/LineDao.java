@@ -14,6 +14,9 @@ import wooteco.subway.domain.Line;
 @Repository
 public class LineDao {
 
+    private static final RowMapper<Line> ROW_MAPPER = (rs, rowNum) -> new Line(rs.getLong(1), rs.getString(2),
+            rs.getString(3), rs.getInt(4));
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     public LineDao(NamedParameterJdbcTemplate jdbcTemplate) {
@@ -38,18 +41,18 @@ public class LineDao {
     }
 
     public List<Line> findAll() {
-        String sql = "SELECT * FROM line";
+        String sql = "SELECT id, name, color, extra_fare FROM line";
 
-        return jdbcTemplate.query(sql, getRowMapper());
+        return jdbcTemplate.query(sql, ROW_MAPPER);
     }
 
     public Line findById(Long id) {
-        String sql = "SELECT * FROM line WHERE id=:id";
+        String sql = "SELECT id, name, color, extra_fare FROM line WHERE id=:id";
 
         Map<String, Object> params = new HashMap<>();
         params.put("id", id);
 
-        return jdbcTemplate.queryForObject(sql, params, getRowMapper());
+        return jdbcTemplate.queryForObject(sql, params, ROW_MAPPER);
     }
 
     public void updateById(Long id, Line line) {
@@ -72,8 +75,4 @@ public class LineDao {
 
         jdbcTemplate.update(sql, params);
     }
-
-    private RowMapper<Line> getRowMapper() {
-        return (rs, rowNum) -> new Line(rs.getLong("id"), rs.getString("name"), rs.getString("color"), rs.getInt("extra_fare"));
-    }
 }
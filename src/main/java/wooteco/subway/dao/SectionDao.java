@@ -1,10 +1,15 @@
 package wooteco.subway.dao;
 
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -14,10 +19,16 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Sections;
+import wooteco.subway.domain.graph.StationGraph;
+import wooteco.subway.domain.graph.StationGraphBuilder;
 
 @Repository
 public class SectionDao {
 
+    private static final int GRAPH_FETCH_SIZE = 1000;
+    private static final RowMapper<Section> ROW_MAPPER = (rs, rowNum) -> new Section(rs.getLong(1), rs.getLong(2),
+            rs.getLong(3), rs.getLong(4), rs.getInt(5), rs.getInt(6));
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     public SectionDao(NamedParameterJdbcTemplate jdbcTemplate) {
@@ -25,13 +36,14 @@ public class SectionDao {
     }
 
     public Section save(Section section) {
-        String sql = "INSERT INTO section (line_id, up_station_id, down_station_id, distance) VALUES (:line_id, :up_station_id, :down_station_id, :distance)";
+        String sql = "INSERT INTO section (line_id, up_station_id, down_station_id, distance, position) VALUES (:line_id, :up_station_id, :down_station_id, :distance, :position)";
 
         Map<String, Object> params = new HashMap<>();
         params.put("line_id", section.getLineId());
         params.put("up_station_id", section.getUpStationId());
         params.put("down_station_id", section.getDownStationId());
         params.put("distance", section.getDistance());
+        params.put("position", section.getPosition());
 
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
@@ -40,31 +52,99 @@ public class SectionDao {
         long sectionId = keyHolder.getKey().longValue();
 
         return new Section(sectionId, section.getLineId(), section.getUpStationId(), section.getDownStationId(),
-                section.getDistance());
+                section.getDistance(), section.getPosition());
     }
 
     public void saveAll(List<Section> sections) {
-        String sql = "INSERT INTO section (line_id, up_station_id, down_station_id, distance) VALUES (:lineId, :upStationId, :downStationId, :distance)";
+        String sql = "INSERT INTO section (line_id, up_station_id, down_station_id, distance, position) VALUES (:lineId, :upStationId, :downStationId, :distance, :position)";
         jdbcTemplate.batchUpdate(sql, SqlParameterSourceUtils.createBatch(sections));
     }
 
     public Sections findAllByLineId(Long id) {
-        String sql = "SELECT * FROM section WHERE line_id = :line_id";
+        String sql = "SELECT id, line_id, up_station_id, down_station_id, distance, position"
+                + " FROM section"
+                + " WHERE line_id = :line_id ORDER BY line_id, position";
 
         Map<String, Object> params = new HashMap<>();
         params.put("line_id", id);
 
-        return new Sections(jdbcTemplate.query(sql, params, getRowMapper()));
+        return new Sections(jdbcTemplate.query(sql, params, ROW_MAPPER));
+    }
+
+    public List<Long> findSortedStationIdsByLineId(Long lineId) {
+        String sql = "SELECT up_station_id, down_station_id FROM section"
+                + " WHERE line_id = :line_id ORDER BY line_id, position";
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("line_id", lineId);
+
+        List<Long> stationIds = new ArrayList<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            if (stationIds.isEmpty()) {
+                stationIds.add(rs.getLong(1));
+            }
+            stationIds.add(rs.getLong(2));
+        });
+        return stationIds;
+    }
+
+    public Map<Long, List<Long>> findAllSortedStationIds() {
+        String sql = "SELECT line_id, up_station_id, down_station_id FROM section ORDER BY line_id, position";
+
+        Map<Long, List<Long>> stationIdsByLineId = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            List<Long> stationIds = stationIdsByLineId.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>());
+            if (stationIds.isEmpty()) {
+                stationIds.add(rs.getLong(2));
+            }
+            stationIds.add(rs.getLong(3));
+        });
+        return stationIdsByLineId;
+    }
+
+    public void shiftPositions(Long lineId, int fromPosition) {
+        String sql = "UPDATE section SET position = position + 1 WHERE line_id = :line_id AND position >= :position";
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("line_id", lineId);
+        params.put("position", fromPosition);
+
+        jdbcTemplate.update(sql, params);
     }
 
     public Sections findAll() {
-        String sql = "SELECT * FROM section";
+        String sql = "SELECT id, line_id, up_station_id, down_station_id, distance, position FROM section";
+
+        return new Sections(jdbcTemplate.query(sql, ROW_MAPPER));
+    }
 
-        return new Sections(jdbcTemplate.query(sql, getRowMapper()));
+    public StationGraph loadGraph() {
+        String sql = "SELECT line_id, up_station_id, down_station_id, distance FROM section";
+
+        StationGraphBuilder builder = new StationGraphBuilder(count());
+        RowCallbackHandler handler = rs -> builder.addSection(rs.getLong(1), rs.getLong(2), rs.getLong(3),
+                rs.getInt(4));
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(GRAPH_FETCH_SIZE);
+            return statement;
+        }, handler);
+        return builder.build();
+    }
+
+    private int count() {
+        String sql = "SELECT COUNT(*) FROM section";
+
+        return jdbcTemplate.getJdbcOperations().queryForObject(sql, Integer.class);
     }
 
     public Optional<Section> findBy(Long lineId, Long upStationId, Long downStationId) {
-        String sql = "SELECT * FROM section WHERE line_id = :line_id AND (up_station_id = :up_station_id OR down_station_id = :down_station_id)";
+        String sql = "SELECT id, line_id, up_station_id, down_station_id, distance, position"
+                + " FROM section"
+                + " WHERE line_id = :line_id AND up_station_id = :up_station_id"
+                + " UNION SELECT id, line_id, up_station_id, down_station_id, distance, position"
+                + " FROM section"
+                + " WHERE line_id = :line_id AND down_station_id = :down_station_id";
 
         Map<String, Object> params = new HashMap<>();
         params.put("line_id", lineId);
@@ -72,23 +152,35 @@ public class SectionDao {
         params.put("down_station_id", downStationId);
 
         try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, params, getRowMapper()));
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, params, ROW_MAPPER));
         } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
         }
     }
 
-    public void deleteById(Long id) {
-        String sql = "DELETE FROM section WHERE id = :id";
+    public void deleteAllByLineId(Long lineId) {
+        String sql = "DELETE FROM section WHERE line_id = :line_id";
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("line_id", lineId);
+
+        jdbcTemplate.update(sql, params);
+    }
+
+    public void deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String sql = "DELETE FROM section WHERE id IN (:ids)";
 
         Map<String, Object> params = new HashMap<>();
-        params.put("id", id);
+        params.put("ids", ids);
 
         jdbcTemplate.update(sql, params);
     }
 
-    private RowMapper<Section> getRowMapper() {
-        return (rs, rowNum) -> new Section(rs.getLong("id"), rs.getLong("line_id"), rs.getLong("up_station_id"),
-                rs.getLong("down_station_id"), rs.getInt("distance"));
+    public void replace(Collection<Long> idsToDelete, List<Section> sectionsToSave) {
+        deleteAllByIds(idsToDelete);
+        saveAll(sectionsToSave);
     }
 }
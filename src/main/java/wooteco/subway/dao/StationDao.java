@@ -1,8 +1,12 @@
 package wooteco.subway.dao;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -14,6 +18,8 @@ import wooteco.subway.domain.Station;
 @Repository
 public class StationDao {
 
+    private static final RowMapper<Station> ROW_MAPPER = (rs, rowNum) -> new Station(rs.getLong(1), rs.getString(2));
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     public StationDao(NamedParameterJdbcTemplate jdbcTemplate) {
@@ -36,24 +42,22 @@ public class StationDao {
     }
 
     public List<Station> findAll() {
-        String sql = "SELECT * FROM station";
+        String sql = "SELECT id, name FROM station";
 
-        return jdbcTemplate.query(sql, new MapSqlParameterSource(), getRowMapper());
+        return jdbcTemplate.query(sql, new MapSqlParameterSource(), ROW_MAPPER);
     }
 
     public List<Station> findAllByLineId(Long lineId) {
-        final String sql = "SELECT * FROM station WHERE"
-                + " id IN(SELECT st.id FROM section AS se INNER JOIN station AS st"
-                + " ON se.up_station_id = st.id"
-                + " WHERE se.line_id = :lineId) OR"
-                + " id IN(SELECT st.id FROM section AS se INNER JOIN station AS st"
-                + " ON se.down_station_id = st.id"
-                + " WHERE se.line_id = :lineId)";
+        final String sql = "SELECT id, name FROM station WHERE id IN("
+                + "SELECT up_station_id FROM section"
+                + " WHERE line_id = :lineId"
+                + " UNION SELECT down_station_id FROM section"
+                + " WHERE line_id = :lineId)";
 
         Map<String, Object> params = new HashMap<>();
         params.put("lineId", lineId);
 
-        return jdbcTemplate.query(sql, params, getRowMapper());
+        return jdbcTemplate.query(sql, params, ROW_MAPPER);
     }
 
     public Station findById(Long id) {
@@ -62,7 +66,26 @@ public class StationDao {
         Map<String, Object> params = new HashMap<>();
         params.put("id", id);
 
-        return jdbcTemplate.queryForObject(sql, params, getRowMapper());
+        return jdbcTemplate.queryForObject(sql, params, ROW_MAPPER);
+    }
+
+    public List<Station> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT id, name FROM station WHERE id IN (:ids)";
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("ids", ids);
+
+        Map<Long, Station> stations = jdbcTemplate.query(sql, params, ROW_MAPPER).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        if (!stations.keySet().containsAll(ids)) {
+            throw new EmptyResultDataAccessException(ids.size());
+        }
+        return ids.stream()
+                .map(stations::get)
+                .collect(Collectors.toList());
     }
 
     public void deleteById(Long id) {
@@ -73,8 +96,4 @@ public class StationDao {
 
         jdbcTemplate.update(sql, params);
     }
-
-    private RowMapper<Station> getRowMapper() {
-        return (rs, rowNum) -> new Station(rs.getLong("id"), rs.getString("name"));
-    }
 }
@@ -0,0 +1,56 @@
+package wooteco.subway.domain;
+
+import wooteco.subway.domain.discountpolicy.DiscountPolicyFactory;
+import wooteco.subway.domain.farepolicy.FarePolicyFactory;
+
+/**
+ * {@code maxDistance} 까지의 거리별 기본 운임을 미리 계산해 두고, 나이대별 할인 정책과 합쳐 {@link Fare} 와 같은 운임을 계산한다.
+ * 표 범위를 넘는 거리는 운임 정책으로 직접 계산한다.
+ */
+public class FareTable {
+
+    public static final int UNLIMITED_DISTANCE = Integer.MAX_VALUE;
+
+    private static final int MAX_SEARCH_DISTANCE = 1 << 20;
+
+    private final int[] basicFares;
+
+    public FareTable(int maxDistance) {
+        this.basicFares = new int[maxDistance + 1];
+        for (int distance = 1; distance <= maxDistance; distance++) {
+            basicFares[distance] = FarePolicyFactory.from(distance).calculate(distance);
+        }
+    }
+
+    public int calculate(int distance, int extraFare, int age) {
+        return DiscountPolicyFactory.from(age).calculate(basicFareOf(distance) + extraFare);
+    }
+
+    /**
+     * 추가 요금 없이 {@code fareBudget} 이하로 갈 수 있는 가장 먼 거리. 운임은 거리에 대해 줄어들지 않으므로 이분 탐색한다.
+     * 운임이 한도를 넘지 않는 나이대라면 {@link #UNLIMITED_DISTANCE} 를 돌려준다.
+     */
+    public int maxDistanceWithin(int fareBudget, int age) {
+        if (calculate(MAX_SEARCH_DISTANCE, 0, age) <= fareBudget) {
+            return UNLIMITED_DISTANCE;
+        }
+        int low = 0;
+        int high = MAX_SEARCH_DISTANCE;
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (calculate(middle, 0, age) <= fareBudget) {
+                low = middle;
+                continue;
+            }
+            high = middle;
+        }
+        return low;
+    }
+
+    private int basicFareOf(int distance) {
+        if (distance < 1 || distance >= basicFares.length) {
+            return FarePolicyFactory.from(distance).calculate(distance);
+        }
+        return basicFares[distance];
+    }
+}
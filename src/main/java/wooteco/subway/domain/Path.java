@@ -1,63 +1,220 @@
 package wooteco.subway.domain;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-import org.jgrapht.GraphPath;
-import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
-import org.jgrapht.graph.DefaultWeightedEdge;
-import org.jgrapht.graph.WeightedMultigraph;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import wooteco.subway.domain.graph.DijkstraEngine;
+import wooteco.subway.domain.graph.SearchStrategy;
+import wooteco.subway.domain.graph.ShortestPath;
+import wooteco.subway.domain.graph.ShortestPathEngine;
+import wooteco.subway.domain.graph.ShortestPathEngineFactory;
+import wooteco.subway.domain.graph.ShortestPathTree;
+import wooteco.subway.domain.graph.StationGraph;
+import wooteco.subway.domain.graph.StationGraphBuilder;
 
 public class Path {
 
-    private final DijkstraShortestPath dijkstraShortestPath;
+    private static final ToIntFunction<Long> NO_EXTRA_FARE = lineId -> 0;
+
+    private final StationGraph graph;
+    private final SearchStrategy strategy;
+    private final int allPairsMaxStations;
+    private final ShortestPathEngine engine;
+    private final boolean rebuildRequired;
 
     public Path(Sections sections) {
-        WeightedMultigraph<String, DefaultWeightedEdge> graph = new WeightedMultigraph(DefaultWeightedEdge.class);
-        addStationVertex(graph, sections);
-        addSectionEdge(graph, sections);
-        this.dijkstraShortestPath = new DijkstraShortestPath(graph);
+        this(sections, SearchStrategy.DIJKSTRA);
+    }
+
+    public Path(Sections sections, SearchStrategy strategy) {
+        this(sections, strategy, ShortestPathEngineFactory.ALL_PAIRS_MAX_STATIONS);
     }
 
-    private void addStationVertex(WeightedMultigraph<String, DefaultWeightedEdge> graph, Sections sections) {
-        for (Long stationId : sections.getAllStationIds()) {
-            graph.addVertex(String.valueOf(stationId));
+    public Path(Sections sections, SearchStrategy strategy, int allPairsMaxStations) {
+        this(toGraph(sections), strategy, allPairsMaxStations);
+    }
+
+    public Path(StationGraph graph, SearchStrategy strategy, int allPairsMaxStations) {
+        this(graph, strategy, allPairsMaxStations, ShortestPathEngineFactory.from(strategy, graph, allPairsMaxStations),
+                false);
+    }
+
+    private Path(StationGraph graph, SearchStrategy strategy, int allPairsMaxStations, ShortestPathEngine engine,
+                 boolean rebuildRequired) {
+        this.graph = graph;
+        this.strategy = strategy;
+        this.allPairsMaxStations = allPairsMaxStations;
+        this.engine = engine;
+        this.rebuildRequired = rebuildRequired;
+    }
+
+    private static StationGraph toGraph(Sections sections) {
+        StationGraphBuilder builder = new StationGraphBuilder(sections.size());
+        for (Section section : sections.getSections()) {
+            builder.addSection(section.getLineId(), section.getUpStationId(), section.getDownStationId(),
+                    section.getDistance());
         }
+        return builder.build();
     }
 
-    private void addSectionEdge(WeightedMultigraph<String, DefaultWeightedEdge> graph, Sections sections) {
-        for (List<Number> sectionInfo : sections.getSectionInfos()) {
-            String upStationId = String.valueOf(sectionInfo.get(0));
-            String downStationId = String.valueOf(sectionInfo.get(1));
-            int distance = (int) sectionInfo.get(2);
-            graph.setEdgeWeight(graph.addEdge(upStationId, downStationId), distance);
+    /**
+     * 그래프를 복사해 구간 변경을 반영한 새 경로를 만든다. 기존 경로는 바뀌지 않으므로 탐색 중에도 만들 수 있다.
+     * 전처리가 필요한 탐색 방식은 다시 전처리하는 데 오래 걸리므로, {@link #rebuild()} 전까지는 다익스트라로 탐색한다.
+     */
+    public Path update(Sections sectionsToDelete, Sections sectionsToSave) {
+        StationGraph graph = this.graph.copy();
+        for (Section section : sectionsToDelete.getSections()) {
+            graph.removeSection(section.getLineId(), section.getUpStationId(), section.getDownStationId(),
+                    section.getDistance());
+        }
+        for (Section section : sectionsToSave.getSections()) {
+            graph.addSection(section.getLineId(), section.getUpStationId(), section.getDownStationId(),
+                    section.getDistance());
+        }
+        if (ShortestPathEngineFactory.requiresPreprocessing(strategy, graph, allPairsMaxStations)) {
+            return new Path(graph, strategy, allPairsMaxStations, new DijkstraEngine(graph), true);
         }
+        return new Path(graph, strategy, allPairsMaxStations);
+    }
+
+    public boolean isRebuildRequired() {
+        return rebuildRequired;
+    }
+
+    public Path rebuild() {
+        return new Path(graph, strategy, allPairsMaxStations);
+    }
+
+    public PathResult find(Long departureId, Long arrivalId) {
+        return find(departureId, arrivalId, NO_EXTRA_FARE);
+    }
+
+    public PathResult find(Long departureId, Long arrivalId, ToIntFunction<Long> extraFareOfLine) {
+        return toPathResult(findShortestPath(departureId, arrivalId).getVertices(), extraFareOfLine);
+    }
+
+    public Map<Long, PathResult> findAll(Long departureId, List<Long> arrivalIds) {
+        return findAll(departureId, arrivalIds, NO_EXTRA_FARE);
+    }
+
+    public Map<Long, PathResult> findAll(Long departureId, List<Long> arrivalIds,
+                                         ToIntFunction<Long> extraFareOfLine) {
+        Map<Long, PathResult> pathResults = new LinkedHashMap<>();
+        int source = graph.indexOf(departureId);
+        if (source == StationGraph.NONE) {
+            return pathResults;
+        }
+        int[] targets = arrivalIds.stream()
+                .mapToInt(graph::indexOf)
+                .toArray();
+        ShortestPathTree tree = new DijkstraEngine(graph).findAll(source, Arrays.stream(targets)
+                .filter(target -> target != StationGraph.NONE)
+                .toArray());
+
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == StationGraph.NONE) {
+                continue;
+            }
+            ShortestPath shortestPath = tree.pathTo(targets[i]);
+            if (shortestPath != null) {
+                pathResults.put(arrivalIds.get(i), toPathResult(shortestPath.getVertices(), extraFareOfLine));
+            }
+        }
+        return pathResults;
+    }
+
+    public List<ReachableStation> findReachable(Long departureId, int maxDistance,
+                                                ToIntFunction<Long> extraFareOfLine) {
+        int source = indexOf(departureId);
+        ShortestPathTree tree = new DijkstraEngine(graph).findWithin(source, maxDistance);
+        int[] extraFares = new int[graph.vertexCount()];
+
+        List<ReachableStation> reachableStations = new ArrayList<>();
+        for (int vertex : tree.getSettled()) {
+            if (vertex == source) {
+                continue;
+            }
+            int previous = tree.previousOf(vertex);
+            int extraFare = extraFareOfLine.applyAsInt(graph.arcLineId(findArc(previous, vertex, extraFareOfLine)));
+            extraFares[vertex] = Math.max(extraFares[previous], extraFare);
+            reachableStations.add(new ReachableStation(graph.stationIdOf(vertex), tree.distanceTo(vertex),
+                    extraFares[vertex]));
+        }
+        return reachableStations;
     }
 
     public List<Long> getShortestPathStationIds(Long departureId, Long arrivalId) {
-        GraphPath graphPath = getGraphPath(departureId, arrivalId);
-        validateConnection(graphPath);
-        List<String> stationIds = graphPath.getVertexList();
-        return stationIds.stream()
-                .map(Long::valueOf)
-                .collect(Collectors.toList());
+        return find(departureId, arrivalId).getStationIds();
     }
 
     public int getShortestPathDistance(Long departureId, Long arrivalId) {
-        GraphPath graphPath = getGraphPath(departureId, arrivalId);
-        validateConnection(graphPath);
-        return (int) graphPath.getWeight();
+        return find(departureId, arrivalId).getDistance();
+    }
+
+    private PathResult toPathResult(int[] vertices, ToIntFunction<Long> extraFareOfLine) {
+        List<Long> stationIds = new ArrayList<>(vertices.length);
+        List<Section> sections = new ArrayList<>(vertices.length - 1);
+        int distance = 0;
+
+        stationIds.add(graph.stationIdOf(vertices[0]));
+        for (int i = 1; i < vertices.length; i++) {
+            int arc = findArc(vertices[i - 1], vertices[i], extraFareOfLine);
+            stationIds.add(graph.stationIdOf(vertices[i]));
+            sections.add(new Section(graph.arcLineId(arc), graph.stationIdOf(vertices[i - 1]),
+                    graph.stationIdOf(vertices[i]), graph.arcWeight(arc)));
+            distance += graph.arcWeight(arc);
+        }
+        return new PathResult(stationIds, distance, new Sections(sections));
+    }
+
+    /**
+     * 두 역 사이의 구간 중 거리가 가장 짧은 구간을 고르고, 거리가 같으면 추가 요금이 적은 노선, 노선 id 가 작은 순서로 고른다.
+     */
+    private int findArc(int from, int to, ToIntFunction<Long> extraFareOfLine) {
+        int found = StationGraph.NONE;
+        int foundExtraFare = 0;
+        for (int arc = graph.arcStart(from), end = graph.arcEnd(from); arc < end; arc++) {
+            if (graph.arcTarget(arc) != to) {
+                continue;
+            }
+            int extraFare = extraFareOfLine.applyAsInt(graph.arcLineId(arc));
+            if (found == StationGraph.NONE || precedes(arc, extraFare, found, foundExtraFare)) {
+                found = arc;
+                foundExtraFare = extraFare;
+            }
+        }
+        return found;
+    }
+
+    private boolean precedes(int arc, int extraFare, int other, int otherExtraFare) {
+        if (graph.arcWeight(arc) != graph.arcWeight(other)) {
+            return graph.arcWeight(arc) < graph.arcWeight(other);
+        }
+        if (extraFare != otherExtraFare) {
+            return extraFare < otherExtraFare;
+        }
+        return graph.arcLineId(arc) < graph.arcLineId(other);
+    }
+
+    private ShortestPath findShortestPath(Long departureId, Long arrivalId) {
+        ShortestPath shortestPath = engine.find(indexOf(departureId), indexOf(arrivalId));
+        validateConnection(shortestPath);
+        return shortestPath;
     }
 
-    private GraphPath getGraphPath(Long departureId, Long arrivalId) {
-        try {
-            return dijkstraShortestPath.getPath(String.valueOf(departureId), String.valueOf(arrivalId));
-        } catch (IllegalArgumentException e) {
+    private int indexOf(Long stationId) {
+        int index = graph.indexOf(stationId);
+        if (index == StationGraph.NONE) {
             throw new IllegalArgumentException("구간에 등록 되지 않은 역입니다.");
         }
+        return index;
     }
 
-    private void validateConnection(GraphPath graphPath) {
-        if (graphPath == null) {
+    private void validateConnection(ShortestPath shortestPath) {
+        if (shortestPath == null) {
             throw new IllegalArgumentException("연결되지 않은 구간입니다.");
         }
     }
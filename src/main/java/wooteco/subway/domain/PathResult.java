@@ -0,0 +1,36 @@
+package wooteco.subway.domain;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PathResult {
+
+    private final List<Long> stationIds;
+    private final int distance;
+    private final Sections sections;
+
+    public PathResult(List<Long> stationIds, int distance, Sections sections) {
+        this.stationIds = stationIds;
+        this.distance = distance;
+        this.sections = sections;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public Sections getSections() {
+        return sections;
+    }
+
+    public List<Long> getLineIds() {
+        return sections.getAllLindIds()
+                .stream()
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,26 @@
+package wooteco.subway.domain;
+
+public class ReachableStation {
+
+    private final Long stationId;
+    private final int distance;
+    private final int extraFare;
+
+    public ReachableStation(Long stationId, int distance, int extraFare) {
+        this.stationId = stationId;
+        this.distance = distance;
+        this.extraFare = extraFare;
+    }
+
+    public Long getStationId() {
+        return stationId;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getExtraFare() {
+        return extraFare;
+    }
+}
@@ -12,18 +12,28 @@ public class Section {
     private final Long upStationId;
     private final Long downStationId;
     private final int distance;
+    private final int position;
 
-    public Section(Long id, Long lineId, Long upStationId, Long downStationId, int distance) {
+    public Section(Long id, Long lineId, Long upStationId, Long downStationId, int distance, int position) {
         validate(upStationId, downStationId, distance);
         this.id = id;
         this.lineId = lineId;
         this.upStationId = upStationId;
         this.downStationId = downStationId;
         this.distance = distance;
+        this.position = position;
+    }
+
+    public Section(Long id, Long lineId, Long upStationId, Long downStationId, int distance) {
+        this(id, lineId, upStationId, downStationId, distance, 0);
+    }
+
+    public Section(Long lineId, Long upStationId, Long downStationId, int distance, int position) {
+        this(null, lineId, upStationId, downStationId, distance, position);
     }
 
     public Section(Long lineId, Long upStationId, Long downStationId, int distance) {
-        this(null, lineId, upStationId, downStationId, distance);
+        this(lineId, upStationId, downStationId, distance, 0);
     }
 
     private void validate(Long upStationId, Long downStationId, int distance) {
@@ -38,9 +48,15 @@ public class Section {
     public List<Section> split(Section newSection) {
         int newDistance = validateDistance(newSection.getDistance());
         if (this.upStationId.equals(newSection.getUpStationId())) {
-            return List.of(newSection, new Section(lineId, newSection.getDownStationId(), downStationId, newDistance));
+            return List.of(newSection.withPosition(position),
+                    new Section(lineId, newSection.getDownStationId(), downStationId, newDistance, position + 1));
         }
-        return List.of(new Section(lineId, upStationId, newSection.getUpStationId(), newDistance), newSection);
+        return List.of(new Section(lineId, upStationId, newSection.getUpStationId(), newDistance, position),
+                newSection.withPosition(position + 1));
+    }
+
+    public Section withPosition(int position) {
+        return new Section(id, lineId, upStationId, downStationId, distance, position);
     }
 
     private int validateDistance(int distance) {
@@ -57,9 +73,9 @@ public class Section {
     public Section merge(Section section) {
         int totalDistance = this.distance + section.getDistance();
         if (this.downStationId.equals(section.getUpStationId())) {
-            return new Section(lineId, this.upStationId, section.getDownStationId(), totalDistance);
+            return new Section(lineId, this.upStationId, section.getDownStationId(), totalDistance, position);
         }
-        return new Section(lineId, section.getUpStationId(), this.downStationId, totalDistance);
+        return new Section(lineId, section.getUpStationId(), this.downStationId, totalDistance, section.position);
     }
 
     public Long getId() {
@@ -82,6 +98,10 @@ public class Section {
         return distance;
     }
 
+    public int getPosition() {
+        return position;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -91,13 +111,13 @@ public class Section {
             return false;
         }
         Section section = (Section) o;
-        return distance == section.distance && Objects.equals(id, section.id) && Objects.equals(lineId,
-                section.lineId) && Objects.equals(upStationId, section.upStationId) && Objects.equals(
-                downStationId, section.downStationId);
+        return distance == section.distance && position == section.position && Objects.equals(id, section.id)
+                && Objects.equals(lineId, section.lineId) && Objects.equals(upStationId, section.upStationId)
+                && Objects.equals(downStationId, section.downStationId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, lineId, upStationId, downStationId, distance);
+        return Objects.hash(id, lineId, upStationId, downStationId, distance, position);
     }
 }
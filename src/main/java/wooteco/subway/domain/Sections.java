@@ -1,6 +1,7 @@
 package wooteco.subway.domain;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -10,8 +11,6 @@ import org.springframework.dao.EmptyResultDataAccessException;
 
 public class Sections {
 
-    private static final int UP_STATION_SIZE = 1;
-    private static final int UP_STATION_INDEX = 0;
     private static final int MINIMUM_SECTION_SIZE = 1;
 
     private final List<Section> sections;
@@ -20,40 +19,17 @@ public class Sections {
         this.sections = new ArrayList<>(sections);
     }
 
-    public List<Long> getSortedStationIdsInSingleLine() {
-        List<Long> stationIds = new ArrayList<>();
-
-        Long upStationId = getUpStationId(sections);
-        stationIds.add(upStationId);
-
-        while (stationIds.size() != sections.size() + UP_STATION_SIZE) {
-            Long downStationId = getDownStationId(sections, upStationId);
-            stationIds.add(downStationId);
-            upStationId = downStationId;
+    public Section extend(Section newSection) {
+        Section first = sections.stream()
+                .min(Comparator.comparingInt(Section::getPosition))
+                .orElseThrow(IllegalStateException::new);
+        if (first.getUpStationId().equals(newSection.getDownStationId())) {
+            return newSection.withPosition(first.getPosition() - 1);
         }
-
-        return stationIds;
-    }
-
-    private Long getUpStationId(List<Section> sections) {
-        List<Long> upStationIds = sections.stream()
-                .map(Section::getUpStationId)
-                .collect(Collectors.toList());
-
-        List<Long> downStationIds = sections.stream()
-                .map(Section::getDownStationId)
-                .collect(Collectors.toList());
-
-        upStationIds.removeAll(downStationIds);
-        return upStationIds.get(UP_STATION_INDEX);
-    }
-
-    private Long getDownStationId(List<Section> sections, Long upStationId) {
-        return sections.stream()
-                .filter(section -> section.getUpStationId().equals(upStationId))
-                .findFirst()
-                .orElseThrow(IllegalArgumentException::new)
-                .getDownStationId();
+        Section last = sections.stream()
+                .max(Comparator.comparingInt(Section::getPosition))
+                .orElseThrow(IllegalStateException::new);
+        return newSection.withPosition(last.getPosition() + 1);
     }
 
     public Sections getSectionsToDelete(Long stationId) {
@@ -102,19 +78,6 @@ public class Sections {
         return new ArrayList<>(stationIds);
     }
 
-    public List<List<Number>> getSectionInfos() {
-        List<List<Number>> sectionInfos = new ArrayList<>();
-
-        for (Section section : sections) {
-            sectionInfos.add(List.of(
-                    section.getUpStationId(),
-                    section.getDownStationId(),
-                    section.getDistance()));
-        }
-
-        return sectionInfos;
-    }
-
     public List<Long> getAllLindIds() {
         return sections.stream()
                 .map(Section::getLineId)
@@ -1,7 +1,5 @@
 package wooteco.subway.domain.discountpolicy;
 
-import java.util.Arrays;
-
 public enum AgeRange {
 
     EARLY_CHILDHOOD(1, 5),
@@ -10,6 +8,8 @@ public enum AgeRange {
     ADULT(19, 64),
     ELDER(65, Integer.MAX_VALUE);
 
+    private static final AgeRange[] VALUES = values();
+
     private final int minAge;
     private final int maxAge;
 
@@ -19,9 +19,11 @@ public enum AgeRange {
     }
 
     public static AgeRange from(final int age) {
-        return Arrays.stream(values())
-                .filter(ageRange -> ageRange.minAge <= age && age <= ageRange.maxAge)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("나이는 1 이상의 정수여야 합니다."));
+        for (AgeRange range : VALUES) {
+            if (range.minAge <= age && age <= range.maxAge) {
+                return range;
+            }
+        }
+        throw new IllegalArgumentException("나이는 1 이상의 정수여야 합니다.");
     }
 }
@@ -2,25 +2,29 @@ package wooteco.subway.domain.discountpolicy;
 
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.Optional;
-import java.util.function.Supplier;
 
 public class DiscountPolicyFactory {
 
-    private static final Map<AgeRange, Supplier<DiscountPolicy>> cache;
+    private static final Map<AgeRange, DiscountPolicy> cache;
 
     static {
         cache = new EnumMap<>(AgeRange.class);
-        cache.put(AgeRange.EARLY_CHILDHOOD, PreferentialPolicy::new);
-        cache.put(AgeRange.CHILDREN, ChildrenPolicy::new);
-        cache.put(AgeRange.TEENAGER, TeenagerPolicy::new);
-        cache.put(AgeRange.ADULT, BasicPolicy::new);
-        cache.put(AgeRange.ELDER, PreferentialPolicy::new);
+        cache.put(AgeRange.EARLY_CHILDHOOD, new PreferentialPolicy());
+        cache.put(AgeRange.CHILDREN, new ChildrenPolicy());
+        cache.put(AgeRange.TEENAGER, new TeenagerPolicy());
+        cache.put(AgeRange.ADULT, new BasicPolicy());
+        cache.put(AgeRange.ELDER, new PreferentialPolicy());
     }
 
     public static DiscountPolicy from(int age) {
-        Supplier<DiscountPolicy> farePolicy = Optional.ofNullable(cache.get(AgeRange.from(age)))
-                .orElseThrow(() -> new IllegalArgumentException("잘못된 나이가 입력되었습니다."));
-        return farePolicy.get();
+        return from(AgeRange.from(age));
+    }
+
+    public static DiscountPolicy from(AgeRange ageRange) {
+        DiscountPolicy discountPolicy = cache.get(ageRange);
+        if (discountPolicy == null) {
+            throw new IllegalArgumentException("잘못된 나이가 입력되었습니다.");
+        }
+        return discountPolicy;
     }
 }
@@ -2,23 +2,23 @@ package wooteco.subway.domain.farepolicy;
 
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.Optional;
-import java.util.function.Supplier;
 
 public class FarePolicyFactory {
 
-    private static final Map<DistanceRange, Supplier<FarePolicy>> cache;
+    private static final Map<DistanceRange, FarePolicy> cache;
 
     static {
         cache = new EnumMap<>(DistanceRange.class);
-        cache.put(DistanceRange.BASIC_DISTANCE, BasicRangePolicy::new);
-        cache.put(DistanceRange.SHORT_RANGE, ShortRangePolicy::new);
-        cache.put(DistanceRange.LONG_RANGE, LongRangePolicy::new);
+        cache.put(DistanceRange.BASIC_DISTANCE, new BasicRangePolicy());
+        cache.put(DistanceRange.SHORT_RANGE, new ShortRangePolicy());
+        cache.put(DistanceRange.LONG_RANGE, new LongRangePolicy());
     }
 
     public static FarePolicy from(int distance) {
-        Supplier<FarePolicy> farePolicy = Optional.ofNullable(cache.get(DistanceRange.from(distance)))
-                .orElseThrow(() -> new IllegalArgumentException("잘못된 거리가 입력되었습니다."));
-        return farePolicy.get();
+        FarePolicy farePolicy = cache.get(DistanceRange.from(distance));
+        if (farePolicy == null) {
+            throw new IllegalArgumentException("잘못된 거리가 입력되었습니다.");
+        }
+        return farePolicy;
     }
 }
@@ -0,0 +1,69 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * 모든 출발역에 대해 다익스트라를 병렬로 한 번씩 돌려 역 쌍마다 최단 거리와 다음 역을 {@code int} 행렬에 저장해 둔다.
+ * 탐색은 행렬 조회와 다음 역을 따라가는 경로 복원뿐이지만, 정점 수의 제곱만큼 메모리를 쓰므로 작은 노선망에서만 사용한다.
+ */
+public class AllPairsEngine implements ShortestPathEngine {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final int vertexCount;
+    private final int[] distances;
+    private final int[] nextHops;
+
+    public AllPairsEngine(StationGraph graph) {
+        this.vertexCount = graph.vertexCount();
+        int size = Math.multiplyExact(vertexCount, vertexCount);
+        this.distances = new int[size];
+        this.nextHops = new int[size];
+        IntStream.range(0, vertexCount)
+                .parallel()
+                .forEach(source -> fillRow(graph, source));
+    }
+
+    private void fillRow(StationGraph graph, int source) {
+        int[] rowDistances = new int[vertexCount];
+        int[] firstHops = new int[vertexCount];
+        Arrays.fill(rowDistances, INFINITY);
+        IntMinHeap heap = new IntMinHeap(vertexCount);
+
+        rowDistances[source] = 0;
+        firstHops[source] = source;
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            for (int arc = graph.arcStart(vertex), end = graph.arcEnd(vertex); arc < end; arc++) {
+                int next = graph.arcTarget(arc);
+                int distance = rowDistances[vertex] + graph.arcWeight(arc);
+                if (distance < rowDistances[next]) {
+                    rowDistances[next] = distance;
+                    firstHops[next] = vertex == source ? next : firstHops[vertex];
+                    heap.insertOrDecrease(next, distance);
+                }
+            }
+        }
+        System.arraycopy(rowDistances, 0, distances, source * vertexCount, vertexCount);
+        System.arraycopy(firstHops, 0, nextHops, source * vertexCount, vertexCount);
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        int distance = distances[source * vertexCount + target];
+        if (distance == INFINITY) {
+            return null;
+        }
+        int length = 1;
+        for (int vertex = source; vertex != target; vertex = nextHops[vertex * vertexCount + target]) {
+            length++;
+        }
+        int[] vertices = new int[length];
+        for (int vertex = source, position = 0; position < length; vertex = nextHops[vertex * vertexCount + target]) {
+            vertices[position++] = vertex;
+        }
+        return new ShortestPath(vertices, distance);
+    }
+}
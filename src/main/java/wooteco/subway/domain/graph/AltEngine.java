@@ -0,0 +1,81 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+/**
+ * 랜드마크까지의 거리와 삼각 부등식으로 도착역까지 남은 거리의 하한을 구해 A* 의 휴리스틱으로 쓴다(ALT).
+ * 랜드마크 거리는 생성 시점의 그래프로 미리 계산하므로, 그래프가 바뀌면 새로 만들어야 한다.
+ */
+public class AltEngine implements ShortestPathEngine {
+
+    public static final int DEFAULT_LANDMARK_COUNT = 8;
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final StationGraph graph;
+    private final int landmarkCount;
+    private final int[] landmarkDistances;
+
+    public AltEngine(StationGraph graph) {
+        this(graph, new FarthestLandmarkSelector(), DEFAULT_LANDMARK_COUNT);
+    }
+
+    public AltEngine(StationGraph graph, LandmarkSelector selector, int landmarkCount) {
+        this.graph = graph;
+        int[] landmarks = selector.select(graph, landmarkCount);
+        int vertexCount = graph.vertexCount();
+        this.landmarkCount = landmarks.length;
+        this.landmarkDistances = new int[landmarks.length * vertexCount];
+        DijkstraEngine dijkstra = new DijkstraEngine(graph);
+        for (int i = 0; i < landmarks.length; i++) {
+            System.arraycopy(dijkstra.distancesFrom(landmarks[i]), 0, landmarkDistances, i * vertexCount,
+                    vertexCount);
+        }
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        return find(source, target, new SettleCounter());
+    }
+
+    ShortestPath find(int source, int target, SettleCounter counter) {
+        int vertexCount = graph.vertexCount();
+        int[] distances = new int[vertexCount];
+        int[] previous = new int[vertexCount];
+        Arrays.fill(distances, INFINITY);
+        IntMinHeap heap = new IntMinHeap(vertexCount);
+
+        distances[source] = 0;
+        heap.insertOrDecrease(source, lowerBound(source, target));
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            counter.increase();
+            if (vertex == target) {
+                return ShortestPath.trace(previous, source, target, distances[target]);
+            }
+            for (int arc = graph.arcStart(vertex), end = graph.arcEnd(vertex); arc < end; arc++) {
+                int next = graph.arcTarget(arc);
+                int distance = distances[vertex] + graph.arcWeight(arc);
+                if (distance < distances[next]) {
+                    distances[next] = distance;
+                    previous[next] = vertex;
+                    heap.insertOrDecrease(next, distance + lowerBound(next, target));
+                }
+            }
+        }
+        return null;
+    }
+
+    private int lowerBound(int vertex, int target) {
+        int vertexCount = graph.vertexCount();
+        int bound = 0;
+        for (int i = 0, offset = 0; i < landmarkCount; i++, offset += vertexCount) {
+            int toVertex = landmarkDistances[offset + vertex];
+            int toTarget = landmarkDistances[offset + target];
+            if (toVertex != INFINITY && toTarget != INFINITY) {
+                bound = Math.max(bound, Math.abs(toTarget - toVertex));
+            }
+        }
+        return bound;
+    }
+}
@@ -0,0 +1,109 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+public class BidirectionalDijkstraEngine implements ShortestPathEngine {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final StationGraph graph;
+
+    public BidirectionalDijkstraEngine(StationGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        if (source == target) {
+            return new ShortestPath(new int[]{source}, 0);
+        }
+        Search forward = new Search(source);
+        Search backward = new Search(target);
+        Meeting meeting = new Meeting();
+
+        while (!forward.heap.isEmpty() && !backward.heap.isEmpty()) {
+            if ((long) forward.heap.peekKey() + backward.heap.peekKey() >= meeting.distance) {
+                break;
+            }
+            if (forward.heap.peekKey() <= backward.heap.peekKey()) {
+                expand(forward, backward, meeting, true);
+                continue;
+            }
+            expand(backward, forward, meeting, false);
+        }
+
+        if (meeting.distance == INFINITY) {
+            return null;
+        }
+        return trace(forward, backward, meeting);
+    }
+
+    private void expand(Search search, Search opposite, Meeting meeting, boolean isForward) {
+        int vertex = search.heap.poll();
+        for (int arc = graph.arcStart(vertex), end = graph.arcEnd(vertex); arc < end; arc++) {
+            int next = graph.arcTarget(arc);
+            int distance = search.distances[vertex] + graph.arcWeight(arc);
+            if (distance < search.distances[next]) {
+                search.distances[next] = distance;
+                search.previous[next] = vertex;
+                search.heap.insertOrDecrease(next, distance);
+            }
+            if (opposite.distances[next] != INFINITY
+                    && (long) distance + opposite.distances[next] < meeting.distance) {
+                meeting.distance = distance + opposite.distances[next];
+                meeting.forwardVertex = isForward ? vertex : next;
+                meeting.backwardVertex = isForward ? next : vertex;
+            }
+        }
+    }
+
+    private ShortestPath trace(Search forward, Search backward, Meeting meeting) {
+        int forwardLength = 1;
+        for (int vertex = meeting.forwardVertex; vertex != forward.origin; vertex = forward.previous[vertex]) {
+            forwardLength++;
+        }
+        int backwardLength = 1;
+        for (int vertex = meeting.backwardVertex; vertex != backward.origin; vertex = backward.previous[vertex]) {
+            backwardLength++;
+        }
+
+        int[] vertices = new int[forwardLength + backwardLength];
+        int vertex = meeting.forwardVertex;
+        for (int position = forwardLength - 1; position >= 0; position--) {
+            vertices[position] = vertex;
+            vertex = forward.previous[vertex];
+        }
+        vertex = meeting.backwardVertex;
+        for (int position = forwardLength; position < vertices.length; position++) {
+            vertices[position] = vertex;
+            vertex = backward.previous[vertex];
+        }
+        return new ShortestPath(vertices, meeting.distance);
+    }
+
+    private class Search {
+
+        private final int origin;
+        private final int[] distances;
+        private final int[] previous;
+        private final IntMinHeap heap;
+
+        private Search(int origin) {
+            int vertexCount = graph.vertexCount();
+            this.origin = origin;
+            this.distances = new int[vertexCount];
+            this.previous = new int[vertexCount];
+            this.heap = new IntMinHeap(vertexCount);
+            Arrays.fill(distances, INFINITY);
+            distances[origin] = 0;
+            heap.insertOrDecrease(origin, 0);
+        }
+    }
+
+    private static class Meeting {
+
+        private int distance = INFINITY;
+        private int forwardVertex;
+        private int backwardVertex;
+    }
+}
@@ -0,0 +1,152 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+/**
+ * 생성 시점의 그래프를 {@link NodeContractor} 로 전처리해 두고, 출발역과 도착역에서 각각 상향 간선만 따라가는 양방향 탐색으로
+ * 최단 경로를 찾는다. 찾은 경로의 shortcut 은 가운데 정점으로 풀어 원래 그래프의 정점 순서로 돌려준다.
+ * 그래프가 바뀌면 전처리 결과가 맞지 않으므로 새로 만들어야 한다.
+ */
+public class ContractionHierarchiesEngine implements ShortestPathEngine {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final int vertexCount;
+    private final int[] ranks;
+    private final int[] upStarts;
+    private final int[] upEnds;
+    private final int[] upTargets;
+    private final int[] upWeights;
+    private final int[] upMiddles;
+
+    public ContractionHierarchiesEngine(StationGraph graph) {
+        NodeContractor contractor = new NodeContractor(graph);
+        contractor.contract();
+        this.vertexCount = graph.vertexCount();
+        this.ranks = contractor.getRanks();
+        this.upStarts = contractor.getUpStarts();
+        this.upEnds = contractor.getUpEnds();
+        this.upTargets = contractor.getUpTargets();
+        this.upWeights = contractor.getUpWeights();
+        this.upMiddles = contractor.getUpMiddles();
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        if (source == target) {
+            return new ShortestPath(new int[]{source}, 0);
+        }
+        Search forward = new Search(source);
+        Search backward = new Search(target);
+        Meeting meeting = new Meeting();
+
+        while (!forward.isFinished(meeting) || !backward.isFinished(meeting)) {
+            if (backward.isFinished(meeting)
+                    || !forward.isFinished(meeting) && forward.heap.peekKey() <= backward.heap.peekKey()) {
+                settle(forward, backward, meeting);
+                continue;
+            }
+            settle(backward, forward, meeting);
+        }
+
+        if (meeting.distance == INFINITY) {
+            return null;
+        }
+        return new ShortestPath(unpack(forward.chainTo(meeting.vertex), backward.chainTo(meeting.vertex)),
+                meeting.distance);
+    }
+
+    private void settle(Search search, Search opposite, Meeting meeting) {
+        int vertex = search.heap.poll();
+        if (opposite.distances[vertex] != INFINITY
+                && (long) search.distances[vertex] + opposite.distances[vertex] < meeting.distance) {
+            meeting.distance = search.distances[vertex] + opposite.distances[vertex];
+            meeting.vertex = vertex;
+        }
+        for (int edge = upStarts[vertex]; edge < upEnds[vertex]; edge++) {
+            int next = upTargets[edge];
+            int distance = search.distances[vertex] + upWeights[edge];
+            if (distance < search.distances[next]) {
+                search.distances[next] = distance;
+                search.previous[next] = vertex;
+                search.heap.insertOrDecrease(next, distance);
+            }
+        }
+    }
+
+    private int[] unpack(int[] forwardChain, int[] backwardChain) {
+        int[] packed = Arrays.copyOf(forwardChain, forwardChain.length + backwardChain.length - 1);
+        for (int i = backwardChain.length - 2, position = forwardChain.length; i >= 0; i--, position++) {
+            packed[position] = backwardChain[i];
+        }
+        int[] vertices = new int[packed.length];
+        int size = 0;
+        int[] stack = new int[16];
+        vertices[size++] = packed[0];
+        for (int i = 1; i < packed.length; i++) {
+            int top = 0;
+            stack[top++] = packed[i - 1];
+            stack[top++] = packed[i];
+            while (top > 0) {
+                int right = stack[--top];
+                int left = stack[--top];
+                int middle = upMiddles[upwardEdge(left, right)];
+                if (middle == NodeContractor.NO_MIDDLE) {
+                    if (size == vertices.length) {
+                        vertices = Arrays.copyOf(vertices, size * 2);
+                    }
+                    vertices[size++] = right;
+                    continue;
+                }
+                if (top + 4 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = middle;
+                stack[top++] = right;
+                stack[top++] = left;
+                stack[top++] = middle;
+            }
+        }
+        return Arrays.copyOf(vertices, size);
+    }
+
+    private int upwardEdge(int left, int right) {
+        int lower = ranks[left] < ranks[right] ? left : right;
+        int higher = lower == left ? right : left;
+        for (int edge = upStarts[lower]; edge < upEnds[lower]; edge++) {
+            if (upTargets[edge] == higher) {
+                return edge;
+            }
+        }
+        throw new IllegalStateException("축약된 간선을 찾을 수 없습니다.");
+    }
+
+    private class Search {
+
+        private final int origin;
+        private final int[] distances = new int[vertexCount];
+        private final int[] previous = new int[vertexCount];
+        private final IntMinHeap heap = new IntMinHeap(vertexCount);
+
+        private Search(int origin) {
+            this.origin = origin;
+            Arrays.fill(distances, INFINITY);
+            distances[origin] = 0;
+            heap.insertOrDecrease(origin, 0);
+        }
+
+        private boolean isFinished(Meeting meeting) {
+            return heap.isEmpty() || heap.peekKey() >= meeting.distance;
+        }
+
+        private int[] chainTo(int meeting) {
+            return ShortestPath.trace(previous, origin, meeting, distances[meeting]).getVertices();
+        }
+    }
+
+    private static class Meeting {
+
+        private int distance = INFINITY;
+        private int vertex = StationGraph.NONE;
+    }
+}
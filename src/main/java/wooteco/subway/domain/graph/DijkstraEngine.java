@@ -0,0 +1,112 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+public class DijkstraEngine implements ShortestPathEngine {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final StationGraph graph;
+
+    public DijkstraEngine(StationGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public ShortestPath find(int source, int target) {
+        return find(source, target, new SettleCounter());
+    }
+
+    ShortestPath find(int source, int target, SettleCounter counter) {
+        int[] distances = new int[graph.vertexCount()];
+        int[] previous = new int[graph.vertexCount()];
+        if (search(source, target, distances, previous, counter)) {
+            return ShortestPath.trace(previous, source, target, distances[target]);
+        }
+        return null;
+    }
+
+    public ShortestPathTree findAll(int source, int[] targets) {
+        int vertexCount = graph.vertexCount();
+        boolean[] isTarget = new boolean[vertexCount];
+        int remaining = 0;
+        for (int target : targets) {
+            if (!isTarget[target]) {
+                isTarget[target] = true;
+                remaining++;
+            }
+        }
+        int[] distances = new int[vertexCount];
+        int[] previous = new int[vertexCount];
+        int[] settled = new int[vertexCount];
+        int settledCount = 0;
+        Arrays.fill(distances, INFINITY);
+        IntMinHeap heap = new IntMinHeap(vertexCount);
+
+        distances[source] = 0;
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty() && remaining > 0) {
+            int vertex = heap.poll();
+            settled[settledCount++] = vertex;
+            if (isTarget[vertex]) {
+                remaining--;
+            }
+            relax(vertex, distances, previous, heap);
+        }
+        return new ShortestPathTree(source, distances, previous, Arrays.copyOf(settled, settledCount));
+    }
+
+    public ShortestPathTree findWithin(int source, int maxDistance) {
+        int vertexCount = graph.vertexCount();
+        int[] distances = new int[vertexCount];
+        int[] previous = new int[vertexCount];
+        int[] settled = new int[vertexCount];
+        int settledCount = 0;
+        Arrays.fill(distances, INFINITY);
+        IntMinHeap heap = new IntMinHeap(vertexCount);
+
+        distances[source] = 0;
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty() && heap.peekKey() <= maxDistance) {
+            int vertex = heap.poll();
+            settled[settledCount++] = vertex;
+            relax(vertex, distances, previous, heap);
+        }
+        return new ShortestPathTree(source, distances, previous, Arrays.copyOf(settled, settledCount));
+    }
+
+    int[] distancesFrom(int source) {
+        int[] distances = new int[graph.vertexCount()];
+        search(source, StationGraph.NONE, distances, new int[graph.vertexCount()], new SettleCounter());
+        return distances;
+    }
+
+    private boolean search(int source, int target, int[] distances, int[] previous, SettleCounter counter) {
+        Arrays.fill(distances, INFINITY);
+        IntMinHeap heap = new IntMinHeap(graph.vertexCount());
+
+        distances[source] = 0;
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            counter.increase();
+            if (vertex == target) {
+                return true;
+            }
+            relax(vertex, distances, previous, heap);
+        }
+        return false;
+    }
+
+    private void relax(int vertex, int[] distances, int[] previous, IntMinHeap heap) {
+        for (int arc = graph.arcStart(vertex), end = graph.arcEnd(vertex); arc < end; arc++) {
+            int next = graph.arcTarget(arc);
+            int distance = distances[vertex] + graph.arcWeight(arc);
+            if (distance < distances[next]) {
+                distances[next] = distance;
+                previous[next] = vertex;
+                heap.insertOrDecrease(next, distance);
+            }
+        }
+    }
+}
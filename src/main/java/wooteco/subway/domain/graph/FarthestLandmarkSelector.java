@@ -0,0 +1,43 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+/**
+ * 이미 고른 랜드마크들로부터 가장 먼 역을 차례로 랜드마크로 고른다. 어느 랜드마크에서도 닿지 않는 역이 있으면 그 역을 먼저 골라
+ * 연결되지 않은 노선망에도 랜드마크가 놓이게 한다.
+ */
+public class FarthestLandmarkSelector implements LandmarkSelector {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    @Override
+    public int[] select(StationGraph graph, int count) {
+        int vertexCount = graph.vertexCount();
+        int[] nearest = new int[vertexCount];
+        Arrays.fill(nearest, INFINITY);
+        int[] landmarks = new int[count];
+        int size = 0;
+        for (int candidate = farthest(graph, nearest); size < count && candidate != StationGraph.NONE;
+             candidate = farthest(graph, nearest)) {
+            landmarks[size++] = candidate;
+            int[] distances = new DijkstraEngine(graph).distancesFrom(candidate);
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                nearest[vertex] = Math.min(nearest[vertex], distances[vertex]);
+            }
+        }
+        return Arrays.copyOf(landmarks, size);
+    }
+
+    private int farthest(StationGraph graph, int[] nearest) {
+        int farthest = StationGraph.NONE;
+        for (int vertex = 0; vertex < nearest.length; vertex++) {
+            if (graph.arcStart(vertex) == graph.arcEnd(vertex) || nearest[vertex] == 0) {
+                continue;
+            }
+            if (farthest == StationGraph.NONE || nearest[vertex] > nearest[farthest]) {
+                farthest = vertex;
+            }
+        }
+        return farthest;
+    }
+}
@@ -0,0 +1,111 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+class IntMinHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final int[] keys;
+    private final int[] positions;
+    private int size;
+
+    IntMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.keys = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int peekKey() {
+        return keys[heap[0]];
+    }
+
+    void insertOrDecrease(int vertex, int key) {
+        if (positions[vertex] == ABSENT) {
+            heap[size] = vertex;
+            positions[vertex] = size;
+            keys[vertex] = key;
+            siftUp(size++);
+            return;
+        }
+        if (key < keys[vertex]) {
+            keys[vertex] = key;
+            siftUp(positions[vertex]);
+        }
+    }
+
+    void insertOrUpdate(int vertex, int key) {
+        if (positions[vertex] == ABSENT) {
+            insertOrDecrease(vertex, key);
+            return;
+        }
+        keys[vertex] = key;
+        siftUp(positions[vertex]);
+        siftDown(positions[vertex]);
+    }
+
+    void clear() {
+        for (int position = 0; position < size; position++) {
+            positions[heap[position]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    int poll() {
+        int vertex = heap[0];
+        positions[vertex] = ABSENT;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return vertex;
+    }
+
+    private void siftUp(int position) {
+        int vertex = heap[position];
+        int key = keys[vertex];
+        while (position > 0) {
+            int parentPosition = (position - 1) >>> 1;
+            int parent = heap[parentPosition];
+            if (keys[parent] <= key) {
+                break;
+            }
+            heap[position] = parent;
+            positions[parent] = position;
+            position = parentPosition;
+        }
+        heap[position] = vertex;
+        positions[vertex] = position;
+    }
+
+    private void siftDown(int position) {
+        int vertex = heap[position];
+        int key = keys[vertex];
+        int half = size >>> 1;
+        while (position < half) {
+            int childPosition = 2 * position + 1;
+            int child = heap[childPosition];
+            int rightPosition = childPosition + 1;
+            if (rightPosition < size && keys[heap[rightPosition]] < keys[child]) {
+                childPosition = rightPosition;
+                child = heap[childPosition];
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            heap[position] = child;
+            positions[child] = position;
+            position = childPosition;
+        }
+        heap[position] = vertex;
+        positions[vertex] = position;
+    }
+}
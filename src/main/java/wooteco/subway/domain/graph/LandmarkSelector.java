@@ -0,0 +1,7 @@
+package wooteco.subway.domain.graph;
+
+@FunctionalInterface
+public interface LandmarkSelector {
+
+    int[] select(StationGraph graph, int count);
+}
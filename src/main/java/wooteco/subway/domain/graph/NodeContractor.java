@@ -0,0 +1,248 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+/**
+ * Contraction Hierarchies 전처리. edge difference 가 작은 정점부터 lazy update 로 축약하며, 축약한 정점을 거치는 것보다
+ * 짧은 우회 경로(witness)가 없으면 양 끝 이웃 사이에 shortcut 을 추가한다. 축약 시점에 남아 있는 간선이 곧 그 정점의 상향 간선이다.
+ */
+class NodeContractor {
+
+    static final int NO_MIDDLE = -1;
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int WITNESS_SETTLE_LIMIT = 64;
+
+    private final int vertexCount;
+    private final int[][] neighbors;
+    private final int[][] weights;
+    private final int[][] middles;
+    private final int[] sizes;
+    private final boolean[] contracted;
+    private final int[] contractedNeighbors;
+
+    private final int[] witnessDistances;
+    private final int[] witnessRounds;
+    private final IntMinHeap witnessHeap;
+    private int witnessRound;
+
+    private final int[] ranks;
+    private final int[] upStarts;
+    private final int[] upEnds;
+    private int[] upTargets;
+    private int[] upWeights;
+    private int[] upMiddles;
+    private int upSize;
+
+    NodeContractor(StationGraph graph) {
+        this.vertexCount = graph.vertexCount();
+        this.neighbors = new int[vertexCount][];
+        this.weights = new int[vertexCount][];
+        this.middles = new int[vertexCount][];
+        this.sizes = new int[vertexCount];
+        this.contracted = new boolean[vertexCount];
+        this.contractedNeighbors = new int[vertexCount];
+        this.witnessDistances = new int[vertexCount];
+        this.witnessRounds = new int[vertexCount];
+        this.witnessHeap = new IntMinHeap(vertexCount);
+        this.ranks = new int[vertexCount];
+        this.upStarts = new int[vertexCount];
+        this.upEnds = new int[vertexCount];
+        this.upTargets = new int[vertexCount];
+        this.upWeights = new int[vertexCount];
+        this.upMiddles = new int[vertexCount];
+
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            int degree = graph.arcEnd(vertex) - graph.arcStart(vertex);
+            neighbors[vertex] = new int[Math.max(degree, 1)];
+            weights[vertex] = new int[Math.max(degree, 1)];
+            middles[vertex] = new int[Math.max(degree, 1)];
+            for (int arc = graph.arcStart(vertex), end = graph.arcEnd(vertex); arc < end; arc++) {
+                if (graph.arcTarget(arc) != vertex) {
+                    addOrImprove(vertex, graph.arcTarget(arc), graph.arcWeight(arc), NO_MIDDLE);
+                }
+            }
+        }
+    }
+
+    void contract() {
+        IntMinHeap queue = new IntMinHeap(vertexCount);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            queue.insertOrUpdate(vertex, priorityOf(vertex));
+        }
+        int rank = 0;
+        while (!queue.isEmpty()) {
+            int vertex = queue.poll();
+            int priority = priorityOf(vertex);
+            if (!queue.isEmpty() && priority > queue.peekKey()) {
+                queue.insertOrUpdate(vertex, priority);
+                continue;
+            }
+            contract(vertex, rank++);
+            for (int i = 0; i < sizes[vertex]; i++) {
+                int neighbor = neighbors[vertex][i];
+                if (!contracted[neighbor]) {
+                    contractedNeighbors[neighbor]++;
+                    queue.insertOrUpdate(neighbor, priorityOf(neighbor));
+                }
+            }
+        }
+    }
+
+    private int priorityOf(int vertex) {
+        return shortcuts(vertex, false) - liveDegree(vertex) + contractedNeighbors[vertex];
+    }
+
+    private int liveDegree(int vertex) {
+        int degree = 0;
+        for (int i = 0; i < sizes[vertex]; i++) {
+            if (!contracted[neighbors[vertex][i]]) {
+                degree++;
+            }
+        }
+        return degree;
+    }
+
+    private void contract(int vertex, int rank) {
+        shortcuts(vertex, true);
+        ranks[vertex] = rank;
+        contracted[vertex] = true;
+        upStarts[vertex] = upSize;
+        for (int i = 0; i < sizes[vertex]; i++) {
+            if (!contracted[neighbors[vertex][i]]) {
+                addUpwardEdge(neighbors[vertex][i], weights[vertex][i], middles[vertex][i]);
+            }
+        }
+        upEnds[vertex] = upSize;
+    }
+
+    private int shortcuts(int vertex, boolean apply) {
+        int count = 0;
+        for (int i = 0; i < sizes[vertex]; i++) {
+            int from = neighbors[vertex][i];
+            if (contracted[from]) {
+                continue;
+            }
+            int maxDistance = maxDistanceFrom(vertex, i);
+            if (maxDistance < 0) {
+                continue;
+            }
+            searchWitness(from, vertex, maxDistance);
+            for (int j = i + 1; j < sizes[vertex]; j++) {
+                int to = neighbors[vertex][j];
+                int distance = weights[vertex][i] + weights[vertex][j];
+                if (contracted[to] || witnessDistanceOf(to) <= distance) {
+                    continue;
+                }
+                count++;
+                if (apply) {
+                    addOrImprove(from, to, distance, vertex);
+                    addOrImprove(to, from, distance, vertex);
+                }
+            }
+        }
+        return count;
+    }
+
+    private int maxDistanceFrom(int vertex, int i) {
+        int max = -1;
+        for (int j = i + 1; j < sizes[vertex]; j++) {
+            if (!contracted[neighbors[vertex][j]]) {
+                max = Math.max(max, weights[vertex][i] + weights[vertex][j]);
+            }
+        }
+        return max;
+    }
+
+    private void searchWitness(int source, int excluded, int maxDistance) {
+        witnessRound++;
+        witnessHeap.clear();
+        witnessRounds[source] = witnessRound;
+        witnessDistances[source] = 0;
+        witnessHeap.insertOrDecrease(source, 0);
+        for (int settled = 0; !witnessHeap.isEmpty() && settled < WITNESS_SETTLE_LIMIT; settled++) {
+            if (witnessHeap.peekKey() > maxDistance) {
+                return;
+            }
+            int vertex = witnessHeap.poll();
+            for (int i = 0; i < sizes[vertex]; i++) {
+                int next = neighbors[vertex][i];
+                if (next == excluded || contracted[next]) {
+                    continue;
+                }
+                int distance = witnessDistances[vertex] + weights[vertex][i];
+                if (distance < witnessDistanceOf(next)) {
+                    witnessRounds[next] = witnessRound;
+                    witnessDistances[next] = distance;
+                    witnessHeap.insertOrDecrease(next, distance);
+                }
+            }
+        }
+    }
+
+    private int witnessDistanceOf(int vertex) {
+        if (witnessRounds[vertex] != witnessRound) {
+            return INFINITY;
+        }
+        return witnessDistances[vertex];
+    }
+
+    private void addOrImprove(int from, int to, int weight, int middle) {
+        for (int i = 0; i < sizes[from]; i++) {
+            if (neighbors[from][i] == to) {
+                if (weight < weights[from][i]) {
+                    weights[from][i] = weight;
+                    middles[from][i] = middle;
+                }
+                return;
+            }
+        }
+        if (sizes[from] == neighbors[from].length) {
+            int capacity = neighbors[from].length * 2;
+            neighbors[from] = Arrays.copyOf(neighbors[from], capacity);
+            weights[from] = Arrays.copyOf(weights[from], capacity);
+            middles[from] = Arrays.copyOf(middles[from], capacity);
+        }
+        neighbors[from][sizes[from]] = to;
+        weights[from][sizes[from]] = weight;
+        middles[from][sizes[from]] = middle;
+        sizes[from]++;
+    }
+
+    private void addUpwardEdge(int target, int weight, int middle) {
+        if (upSize == upTargets.length) {
+            int capacity = upTargets.length * 2 + 1;
+            upTargets = Arrays.copyOf(upTargets, capacity);
+            upWeights = Arrays.copyOf(upWeights, capacity);
+            upMiddles = Arrays.copyOf(upMiddles, capacity);
+        }
+        upTargets[upSize] = target;
+        upWeights[upSize] = weight;
+        upMiddles[upSize] = middle;
+        upSize++;
+    }
+
+    int[] getRanks() {
+        return ranks;
+    }
+
+    int[] getUpStarts() {
+        return upStarts;
+    }
+
+    int[] getUpEnds() {
+        return upEnds;
+    }
+
+    int[] getUpTargets() {
+        return Arrays.copyOf(upTargets, upSize);
+    }
+
+    int[] getUpWeights() {
+        return Arrays.copyOf(upWeights, upSize);
+    }
+
+    int[] getUpMiddles() {
+        return Arrays.copyOf(upMiddles, upSize);
+    }
+}
@@ -0,0 +1,10 @@
+package wooteco.subway.domain.graph;
+
+public enum SearchStrategy {
+
+    DIJKSTRA,
+    BIDIRECTIONAL,
+    CONTRACTION_HIERARCHIES,
+    ALL_PAIRS,
+    ALT
+}
@@ -0,0 +1,14 @@
+package wooteco.subway.domain.graph;
+
+class SettleCounter {
+
+    private int count;
+
+    void increase() {
+        count++;
+    }
+
+    int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,32 @@
+package wooteco.subway.domain.graph;
+
+public class ShortestPath {
+
+    private final int[] vertices;
+    private final int distance;
+
+    public ShortestPath(int[] vertices, int distance) {
+        this.vertices = vertices;
+        this.distance = distance;
+    }
+
+    static ShortestPath trace(int[] previous, int source, int target, int distance) {
+        int length = 1;
+        for (int vertex = target; vertex != source; vertex = previous[vertex]) {
+            length++;
+        }
+        int[] vertices = new int[length];
+        for (int vertex = target, position = length - 1; position >= 0; vertex = previous[vertex], position--) {
+            vertices[position] = vertex;
+        }
+        return new ShortestPath(vertices, distance);
+    }
+
+    public int[] getVertices() {
+        return vertices;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,7 @@
+package wooteco.subway.domain.graph;
+
+@FunctionalInterface
+public interface ShortestPathEngine {
+
+    ShortestPath find(int source, int target);
+}
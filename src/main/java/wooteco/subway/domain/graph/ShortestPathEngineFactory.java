@@ -0,0 +1,47 @@
+package wooteco.subway.domain.graph;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+public class ShortestPathEngineFactory {
+
+    public static final int ALL_PAIRS_MAX_STATIONS = 2_000;
+
+    private static final Map<SearchStrategy, Function<StationGraph, ShortestPathEngine>> cache;
+    private static final Set<SearchStrategy> PREPROCESSED_STRATEGIES = EnumSet.of(
+            SearchStrategy.CONTRACTION_HIERARCHIES, SearchStrategy.ALL_PAIRS, SearchStrategy.ALT);
+
+    static {
+        cache = new EnumMap<>(SearchStrategy.class);
+        cache.put(SearchStrategy.DIJKSTRA, DijkstraEngine::new);
+        cache.put(SearchStrategy.BIDIRECTIONAL, BidirectionalDijkstraEngine::new);
+        cache.put(SearchStrategy.CONTRACTION_HIERARCHIES, ContractionHierarchiesEngine::new);
+        cache.put(SearchStrategy.ALL_PAIRS, AllPairsEngine::new);
+        cache.put(SearchStrategy.ALT, AltEngine::new);
+    }
+
+    public static ShortestPathEngine from(SearchStrategy strategy, StationGraph graph, int allPairsMaxStations) {
+        if (strategy == SearchStrategy.ALL_PAIRS && graph.vertexCount() > allPairsMaxStations) {
+            return from(SearchStrategy.DIJKSTRA, graph);
+        }
+        return from(strategy, graph);
+    }
+
+    public static boolean requiresPreprocessing(SearchStrategy strategy, StationGraph graph,
+                                                int allPairsMaxStations) {
+        if (strategy == SearchStrategy.ALL_PAIRS && graph.vertexCount() > allPairsMaxStations) {
+            return false;
+        }
+        return PREPROCESSED_STRATEGIES.contains(strategy);
+    }
+
+    public static ShortestPathEngine from(SearchStrategy strategy, StationGraph graph) {
+        Function<StationGraph, ShortestPathEngine> engine = Optional.ofNullable(cache.get(strategy))
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 경로 탐색 방식입니다."));
+        return engine.apply(graph);
+    }
+}
@@ -0,0 +1,37 @@
+package wooteco.subway.domain.graph;
+
+public class ShortestPathTree {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final int source;
+    private final int[] distances;
+    private final int[] previous;
+    private final int[] settled;
+
+    ShortestPathTree(int source, int[] distances, int[] previous, int[] settled) {
+        this.source = source;
+        this.distances = distances;
+        this.previous = previous;
+        this.settled = settled;
+    }
+
+    public ShortestPath pathTo(int target) {
+        if (distances[target] == INFINITY) {
+            return null;
+        }
+        return ShortestPath.trace(previous, source, target, distances[target]);
+    }
+
+    public int[] getSettled() {
+        return settled;
+    }
+
+    public int distanceTo(int vertex) {
+        return distances[vertex];
+    }
+
+    public int previousOf(int vertex) {
+        return previous[vertex];
+    }
+}
@@ -0,0 +1,310 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+/**
+ * 역을 0부터 시작하는 정수 인덱스로, 구간을 양방향 arc 로 저장하는 CSR(compressed sparse row) 그래프.
+ * 각 역의 arc 는 {@code [arcStart(v), arcEnd(v))} 범위에 연속해서 놓이며, 구간이 추가되어 범위가 부족해지면
+ * 해당 역의 arc 만 배열 끝으로 옮겨 O(차수) 로 갱신한다.
+ * <p>
+ * {@link #copy()} 는 arc 배열과 역 정보 페이지를 원본과 공유하고, 복사본이 바꾸는 역의 페이지와 arc 만 새로 쓴다.
+ * 원본이 읽는 arc 는 덮어쓰지 않도록, 복사 이전부터 있던 arc 를 지울 때는 그 역의 arc 를 먼저 배열 끝으로 옮긴다.
+ */
+public class StationGraph {
+
+    public static final int NONE = StationIndexes.NONE;
+
+    private static final int MIN_CAPACITY = 2;
+    private static final int PAGE_BITS = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int OFFSET = 0;
+    private static final int DEGREE = 1;
+    private static final int CAPACITY = 2;
+    private static final int ROW_WIDTH = 3;
+
+    private StationIndexes indexes;
+    private long[][] stationIds;
+    private int[][] rows;
+    private boolean[] ownedPages;
+    private int vertexCount;
+
+    private int[] targets;
+    private int[] weights;
+    private long[] lineIds;
+    private int arcSize;
+    private int garbage;
+    private int ownedArcStart;
+    private boolean copied;
+
+    StationGraph(StationIndexes indexes, long[] stationIds, int[] offsets, int[] degrees, int vertexCount,
+                 int[] targets, int[] weights, long[] lineIds) {
+        int pageCount = (vertexCount + PAGE_MASK) >>> PAGE_BITS;
+        this.indexes = indexes;
+        this.stationIds = new long[pageCount][];
+        this.rows = new int[pageCount][];
+        this.ownedPages = new boolean[pageCount];
+        for (int page = 0; page < pageCount; page++) {
+            allocatePage(page);
+        }
+        for (int index = 0; index < vertexCount; index++) {
+            this.stationIds[index >>> PAGE_BITS][index & PAGE_MASK] = stationIds[index];
+            setRow(index, OFFSET, offsets[index]);
+            setRow(index, DEGREE, degrees[index]);
+            setRow(index, CAPACITY, degrees[index]);
+        }
+        this.vertexCount = vertexCount;
+        this.targets = targets;
+        this.weights = weights;
+        this.lineIds = lineIds;
+        this.arcSize = targets.length;
+    }
+
+    private StationGraph(StationGraph other) {
+        this.indexes = other.indexes;
+        this.stationIds = other.stationIds.clone();
+        this.rows = other.rows.clone();
+        this.ownedPages = new boolean[rows.length];
+        this.vertexCount = other.vertexCount;
+        this.targets = other.targets;
+        this.weights = other.weights;
+        this.lineIds = other.lineIds;
+        this.arcSize = other.arcSize;
+        this.garbage = other.garbage;
+        this.ownedArcStart = other.arcSize;
+    }
+
+    /**
+     * 원본과 배열을 공유하는 복사본을 만든다. 원본을 두 번 복사하거나 복사한 뒤 원본을 바꾸면 그때 배열을 모두 복사한다.
+     */
+    public StationGraph copy() {
+        StationGraph copy = new StationGraph(this);
+        if (copied) {
+            copy.detach();
+        }
+        copied = true;
+        return copy;
+    }
+
+    public int indexOf(long stationId) {
+        int index = indexes.get(stationId);
+        if (index == NONE || index >= vertexCount || row(index, DEGREE) == 0) {
+            return NONE;
+        }
+        return index;
+    }
+
+    public long stationIdOf(int index) {
+        return stationIds[index >>> PAGE_BITS][index & PAGE_MASK];
+    }
+
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    public int arcStart(int index) {
+        return row(index, OFFSET);
+    }
+
+    public int arcEnd(int index) {
+        int[] page = rows[index >>> PAGE_BITS];
+        int row = (index & PAGE_MASK) * ROW_WIDTH;
+        return page[row + OFFSET] + page[row + DEGREE];
+    }
+
+    public int arcTarget(int arc) {
+        return targets[arc];
+    }
+
+    public int arcWeight(int arc) {
+        return weights[arc];
+    }
+
+    public long arcLineId(int arc) {
+        return lineIds[arc];
+    }
+
+    public int findArc(int from, int to) {
+        int found = NONE;
+        for (int arc = arcStart(from), end = arcEnd(from); arc < end; arc++) {
+            if (targets[arc] == to && (found == NONE || precedes(arc, found))) {
+                found = arc;
+            }
+        }
+        return found;
+    }
+
+    public void addSection(long lineId, long upStationId, long downStationId, int distance) {
+        prepareWrite();
+        int up = register(upStationId);
+        int down = register(downStationId);
+        addArc(up, down, distance, lineId);
+        addArc(down, up, distance, lineId);
+    }
+
+    public void removeSection(long lineId, long upStationId, long downStationId, int distance) {
+        prepareWrite();
+        int up = indexOf(upStationId);
+        int down = indexOf(downStationId);
+        if (up == NONE || down == NONE) {
+            return;
+        }
+        removeArc(up, down, distance, lineId);
+        removeArc(down, up, distance, lineId);
+    }
+
+    private boolean precedes(int arc, int other) {
+        if (weights[arc] != weights[other]) {
+            return weights[arc] < weights[other];
+        }
+        return lineIds[arc] < lineIds[other];
+    }
+
+    private void prepareWrite() {
+        if (copied) {
+            detach();
+            copied = false;
+        }
+    }
+
+    private void detach() {
+        indexes = new StationIndexes(indexes);
+        for (int page = 0; page < rows.length && rows[page] != null; page++) {
+            ownPage(page);
+        }
+        compact();
+    }
+
+    private int register(long stationId) {
+        int index = indexes.get(stationId);
+        if (index != NONE) {
+            return index;
+        }
+        index = vertexCount++;
+        int page = index >>> PAGE_BITS;
+        if (page == rows.length) {
+            int pageCount = Math.max(MIN_CAPACITY, rows.length * 2);
+            stationIds = Arrays.copyOf(stationIds, pageCount);
+            rows = Arrays.copyOf(rows, pageCount);
+            ownedPages = Arrays.copyOf(ownedPages, pageCount);
+        }
+        if (rows[page] == null) {
+            allocatePage(page);
+        }
+        stationIds[ownPage(page)][index & PAGE_MASK] = stationId;
+        setRow(index, OFFSET, arcSize);
+        setRow(index, DEGREE, 0);
+        setRow(index, CAPACITY, 0);
+        indexes.put(stationId, index);
+        return index;
+    }
+
+    private void addArc(int from, int to, int weight, long lineId) {
+        int degree = row(from, DEGREE);
+        if (degree == row(from, CAPACITY)) {
+            relocate(from, Math.max(MIN_CAPACITY, row(from, CAPACITY) * 2));
+        }
+        int arc = row(from, OFFSET) + degree;
+        targets[arc] = to;
+        weights[arc] = weight;
+        lineIds[arc] = lineId;
+        setRow(from, DEGREE, degree + 1);
+    }
+
+    private void removeArc(int from, int to, int weight, long lineId) {
+        for (int arc = arcStart(from), end = arcEnd(from); arc < end; arc++) {
+            if (targets[arc] == to && weights[arc] == weight && lineIds[arc] == lineId) {
+                removeArcAt(from, arc - arcStart(from));
+                return;
+            }
+        }
+    }
+
+    private void removeArcAt(int from, int position) {
+        if (arcStart(from) < ownedArcStart) {
+            relocate(from, row(from, CAPACITY));
+        }
+        int arc = arcStart(from) + position;
+        int last = arcEnd(from) - 1;
+        targets[arc] = targets[last];
+        weights[arc] = weights[last];
+        lineIds[arc] = lineIds[last];
+        setRow(from, DEGREE, row(from, DEGREE) - 1);
+    }
+
+    private void relocate(int index, int capacity) {
+        if (garbage > arcSize / 2) {
+            compact();
+        }
+        ensureArcCapacity(arcSize + capacity);
+        int offset = row(index, OFFSET);
+        int degree = row(index, DEGREE);
+        System.arraycopy(targets, offset, targets, arcSize, degree);
+        System.arraycopy(weights, offset, weights, arcSize, degree);
+        System.arraycopy(lineIds, offset, lineIds, arcSize, degree);
+        garbage += row(index, CAPACITY);
+        setRow(index, OFFSET, arcSize);
+        setRow(index, CAPACITY, capacity);
+        arcSize += capacity;
+    }
+
+    private void compact() {
+        int size = 0;
+        for (int index = 0; index < vertexCount; index++) {
+            size += row(index, DEGREE);
+        }
+        int[] compactTargets = new int[size];
+        int[] compactWeights = new int[size];
+        long[] compactLineIds = new long[size];
+        int offset = 0;
+        for (int index = 0; index < vertexCount; index++) {
+            int degree = row(index, DEGREE);
+            System.arraycopy(targets, row(index, OFFSET), compactTargets, offset, degree);
+            System.arraycopy(weights, row(index, OFFSET), compactWeights, offset, degree);
+            System.arraycopy(lineIds, row(index, OFFSET), compactLineIds, offset, degree);
+            setRow(index, OFFSET, offset);
+            setRow(index, CAPACITY, degree);
+            offset += degree;
+        }
+        targets = compactTargets;
+        weights = compactWeights;
+        lineIds = compactLineIds;
+        arcSize = size;
+        garbage = 0;
+        ownedArcStart = 0;
+    }
+
+    private void ensureArcCapacity(int capacity) {
+        if (capacity <= targets.length) {
+            return;
+        }
+        int length = Math.max(capacity, targets.length + (targets.length >> 1));
+        targets = Arrays.copyOf(targets, length);
+        weights = Arrays.copyOf(weights, length);
+        lineIds = Arrays.copyOf(lineIds, length);
+        ownedArcStart = 0;
+    }
+
+    private int row(int index, int field) {
+        return rows[index >>> PAGE_BITS][(index & PAGE_MASK) * ROW_WIDTH + field];
+    }
+
+    private void setRow(int index, int field, int value) {
+        rows[ownPage(index >>> PAGE_BITS)][(index & PAGE_MASK) * ROW_WIDTH + field] = value;
+    }
+
+    private void allocatePage(int page) {
+        stationIds[page] = new long[PAGE_SIZE];
+        rows[page] = new int[PAGE_SIZE * ROW_WIDTH];
+        ownedPages[page] = true;
+    }
+
+    private int ownPage(int page) {
+        if (!ownedPages[page]) {
+            stationIds[page] = stationIds[page].clone();
+            rows[page] = rows[page].clone();
+            ownedPages[page] = true;
+        }
+        return page;
+    }
+}
@@ -0,0 +1,95 @@
+package wooteco.subway.domain.graph;
+
+import java.util.Arrays;
+
+public class StationGraphBuilder {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final StationIndexes indexes;
+    private long[] stationIds;
+    private int vertexCount;
+
+    private int[] ups;
+    private int[] downs;
+    private int[] distances;
+    private long[] lineIds;
+    private int sectionCount;
+
+    public StationGraphBuilder() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public StationGraphBuilder(int expectedSections) {
+        int capacity = Math.max(INITIAL_CAPACITY, expectedSections);
+        this.indexes = new StationIndexes(capacity);
+        this.stationIds = new long[capacity];
+        this.ups = new int[capacity];
+        this.downs = new int[capacity];
+        this.distances = new int[capacity];
+        this.lineIds = new long[capacity];
+    }
+
+    public StationGraphBuilder addSection(long lineId, long upStationId, long downStationId, int distance) {
+        if (sectionCount == ups.length) {
+            int capacity = sectionCount * 2;
+            ups = Arrays.copyOf(ups, capacity);
+            downs = Arrays.copyOf(downs, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+            lineIds = Arrays.copyOf(lineIds, capacity);
+        }
+        ups[sectionCount] = register(upStationId);
+        downs[sectionCount] = register(downStationId);
+        distances[sectionCount] = distance;
+        lineIds[sectionCount] = lineId;
+        sectionCount++;
+        return this;
+    }
+
+    private int register(long stationId) {
+        int index = indexes.get(stationId);
+        if (index != StationIndexes.NONE) {
+            return index;
+        }
+        if (vertexCount == stationIds.length) {
+            stationIds = Arrays.copyOf(stationIds, vertexCount * 2);
+        }
+        stationIds[vertexCount] = stationId;
+        indexes.put(stationId, vertexCount);
+        return vertexCount++;
+    }
+
+    public StationGraph build() {
+        int[] degrees = new int[vertexCount];
+        for (int section = 0; section < sectionCount; section++) {
+            degrees[ups[section]]++;
+            degrees[downs[section]]++;
+        }
+
+        int[] offsets = new int[vertexCount];
+        for (int index = 1; index < vertexCount; index++) {
+            offsets[index] = offsets[index - 1] + degrees[index - 1];
+        }
+
+        int arcCount = sectionCount * 2;
+        int[] targets = new int[arcCount];
+        int[] weights = new int[arcCount];
+        long[] arcLineIds = new long[arcCount];
+        int[] cursors = Arrays.copyOf(offsets, vertexCount);
+        for (int section = 0; section < sectionCount; section++) {
+            int up = ups[section];
+            int down = downs[section];
+            int upArc = cursors[up]++;
+            targets[upArc] = down;
+            weights[upArc] = distances[section];
+            arcLineIds[upArc] = lineIds[section];
+            int downArc = cursors[down]++;
+            targets[downArc] = up;
+            weights[downArc] = distances[section];
+            arcLineIds[downArc] = lineIds[section];
+        }
+
+        return new StationGraph(indexes, Arrays.copyOf(stationIds, vertexCount), offsets, degrees, vertexCount,
+                targets, weights, arcLineIds);
+    }
+}
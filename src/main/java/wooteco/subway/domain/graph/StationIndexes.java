@@ -0,0 +1,108 @@
+package wooteco.subway.domain.graph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * 역 id 를 정점 인덱스로 바꾸는 open addressing 해시 표.
+ * 한 번 넣은 값은 바꾸지 않으므로 여러 그래프 버전이 공유하며, 쓰는 스레드 하나와 읽는 스레드 여럿이 함께 쓸 수 있다.
+ * 값을 먼저 쓰고 키를 release 로 공개하며, 크기를 늘릴 때는 새 표를 다 채운 뒤 volatile 로 바꾼다.
+ */
+class StationIndexes {
+
+    static final int NONE = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private volatile Table table;
+    private int size;
+
+    StationIndexes() {
+        this(INITIAL_CAPACITY);
+    }
+
+    StationIndexes(int expectedSize) {
+        this.table = new Table(Integer.highestOneBit(Math.max(INITIAL_CAPACITY, expectedSize * 2) - 1) << 1);
+    }
+
+    StationIndexes(StationIndexes other) {
+        Table table = other.table;
+        this.table = new Table(Arrays.copyOf(table.keys, table.keys.length),
+                Arrays.copyOf(table.values, table.values.length));
+        this.size = other.size;
+    }
+
+    int get(long stationId) {
+        Table table = this.table;
+        int mask = table.keys.length - 1;
+        for (int slot = hash(stationId) & mask; ; slot = (slot + 1) & mask) {
+            long key = (long) KEYS.getAcquire(table.keys, slot);
+            if (key == EMPTY) {
+                return NONE;
+            }
+            if (key == stationId) {
+                return table.values[slot];
+            }
+        }
+    }
+
+    void put(long stationId, int index) {
+        if ((size + 1) * 2 > table.keys.length) {
+            resize();
+        }
+        if (insert(table, stationId, index)) {
+            size++;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        Table oldTable = table;
+        Table newTable = new Table(oldTable.keys.length * 2);
+        for (int slot = 0; slot < oldTable.keys.length; slot++) {
+            if (oldTable.keys[slot] != EMPTY) {
+                insert(newTable, oldTable.keys[slot], oldTable.values[slot]);
+            }
+        }
+        table = newTable;
+    }
+
+    private static boolean insert(Table table, long stationId, int index) {
+        int mask = table.keys.length - 1;
+        int slot = hash(stationId) & mask;
+        while (table.keys[slot] != EMPTY && table.keys[slot] != stationId) {
+            slot = (slot + 1) & mask;
+        }
+        boolean inserted = table.keys[slot] == EMPTY;
+        table.values[slot] = index;
+        KEYS.setRelease(table.keys, slot, stationId);
+        return inserted;
+    }
+
+    private static int hash(long stationId) {
+        long hash = stationId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static class Table {
+
+        private final long[] keys;
+        private final int[] values;
+
+        private Table(int capacity) {
+            this(new long[capacity], new int[capacity]);
+            Arrays.fill(keys, EMPTY);
+        }
+
+        private Table(long[] keys, int[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+    }
+}
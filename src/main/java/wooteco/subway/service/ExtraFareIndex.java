@@ -0,0 +1,60 @@
+package wooteco.subway.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.domain.Line;
+import wooteco.subway.service.event.LinesChangedEvent;
+
+@Component
+public class ExtraFareIndex {
+
+    private final LineDao lineDao;
+    private final NetworkVersion networkVersion;
+
+    private volatile Map<Long, Integer> extraFares;
+
+    public ExtraFareIndex(LineDao lineDao, NetworkVersion networkVersion) {
+        this.lineDao = lineDao;
+        this.networkVersion = networkVersion;
+    }
+
+    public int getMaxExtraFare(Collection<Long> lineIds) {
+        Map<Long, Integer> extraFares = getExtraFares();
+        return lineIds.stream()
+                .mapToInt(lineId -> extraFares.getOrDefault(lineId, 0))
+                .max()
+                .orElse(0);
+    }
+
+    public int getExtraFare(Long lineId) {
+        return getExtraFares().getOrDefault(lineId, 0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLinesChanged(LinesChangedEvent event) {
+        invalidate();
+    }
+
+    public synchronized void invalidate() {
+        extraFares = null;
+        networkVersion.increase();
+    }
+
+    private Map<Long, Integer> getExtraFares() {
+        Map<Long, Integer> extraFares = this.extraFares;
+        if (extraFares != null) {
+            return extraFares;
+        }
+        synchronized (this) {
+            if (this.extraFares == null) {
+                this.extraFares = lineDao.findAll().stream()
+                        .collect(Collectors.toUnmodifiableMap(Line::getId, Line::getExtraFare));
+            }
+            return this.extraFares;
+        }
+    }
+}
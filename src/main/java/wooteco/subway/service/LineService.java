@@ -1,16 +1,20 @@
 package wooteco.subway.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.dao.LineDao;
 import wooteco.subway.domain.Line;
 import wooteco.subway.domain.Section;
-import wooteco.subway.domain.Sections;
 import wooteco.subway.domain.Station;
 import wooteco.subway.service.dto.LineServiceRequest;
 import wooteco.subway.service.dto.LineServiceResponse;
+import wooteco.subway.service.event.LinesChangedEvent;
 
 @Service
 public class LineService {
@@ -18,11 +22,14 @@ public class LineService {
     private final StationService stationService;
     private final LineDao lineDao;
     private final SectionService sectionService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LineService(StationService stationService, LineDao lineDao, SectionService sectionService) {
+    public LineService(StationService stationService, LineDao lineDao, SectionService sectionService,
+                       ApplicationEventPublisher eventPublisher) {
         this.stationService = stationService;
         this.lineDao = lineDao;
         this.sectionService = sectionService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -34,24 +41,42 @@ public class LineService {
         Section section = new Section(savedLine.getId(), upStation.getId(), downStation.getId(),
                 lineServiceRequest.getDistance());
         sectionService.save(section);
+        eventPublisher.publishEvent(new LinesChangedEvent());
         return new LineServiceResponse(savedLine, List.of(upStation, downStation));
     }
 
     @Transactional(readOnly = true)
     public List<LineServiceResponse> findAll() {
         List<Line> lines = lineDao.findAll();
+        Map<Long, List<Long>> stationIdsByLineId = sectionService.findAllSortedStationIds();
+        Map<Long, Station> stations = findStations(stationIdsByLineId.values());
+
         return lines.stream()
-                .map(line -> new LineServiceResponse(line, stationService.findAllByLineId(line.getId())))
+                .map(line -> new LineServiceResponse(line,
+                        toStations(stationIdsByLineId.getOrDefault(line.getId(), List.of()), stations)))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Station> findStations(Collection<List<Long>> stationIds) {
+        List<Long> distinctStationIds = stationIds.stream()
+                .flatMap(List::stream)
+                .distinct()
+                .collect(Collectors.toList());
+        return stationService.findAllByIds(distinctStationIds)
+                .stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+    }
+
+    private List<Station> toStations(List<Long> stationIds, Map<Long, Station> stations) {
+        return stationIds.stream()
+                .map(stations::get)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public LineServiceResponse findById(Long id) {
         Line line = lineDao.findById(id);
-        Sections sections = sectionService.findAllByLineId(id);
-        List<Station> stations = sections.getSortedStationIdsInSingleLine().stream()
-                .map(stationService::findById)
-                .collect(Collectors.toList());
+        List<Station> stations = stationService.findAllByIds(sectionService.findSortedStationIdsByLineId(id));
 
         return new LineServiceResponse(line, stations);
     }
@@ -59,10 +84,13 @@ public class LineService {
     @Transactional
     public void update(Long id, String name, String color, int extraFare) {
         lineDao.updateById(id, new Line(name, color, extraFare));
+        eventPublisher.publishEvent(new LinesChangedEvent());
     }
 
     @Transactional
     public void deleteById(Long id) {
+        sectionService.deleteAllByLineId(id);
         lineDao.deleteById(id);
+        eventPublisher.publishEvent(new LinesChangedEvent());
     }
 }
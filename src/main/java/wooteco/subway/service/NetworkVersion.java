@@ -0,0 +1,22 @@
+package wooteco.subway.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노선망(구간, 노선)이 바뀔 때마다 증가하는 버전. 변경 사항을 반영한 뒤에 증가시키므로, 조회 전에 읽어 둔 버전이 그대로라면
+ * 조회 결과도 최신이다.
+ */
+@Component
+public class NetworkVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long get() {
+        return version.get();
+    }
+
+    public void increase() {
+        version.incrementAndGet();
+    }
+}
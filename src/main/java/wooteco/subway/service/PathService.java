@@ -1,29 +1,40 @@
 package wooteco.subway.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import wooteco.subway.domain.Fare;
-import wooteco.subway.domain.Path;
-import wooteco.subway.domain.Sections;
+import wooteco.subway.domain.FareTable;
+import wooteco.subway.domain.PathResult;
+import wooteco.subway.domain.ReachableStation;
 import wooteco.subway.domain.Station;
-import wooteco.subway.domain.discountpolicy.DiscountPolicyFactory;
-import wooteco.subway.domain.farepolicy.FarePolicyFactory;
-import wooteco.subway.service.dto.LineServiceResponse;
+import wooteco.subway.service.dto.FareMatrixServiceRequest;
+import wooteco.subway.service.dto.FareMatrixServiceResponse;
 import wooteco.subway.service.dto.PathServiceRequest;
 import wooteco.subway.service.dto.PathServiceResponse;
+import wooteco.subway.service.dto.ReachableServiceRequest;
+import wooteco.subway.service.dto.ReachableServiceResponse;
 
 @Service
 public class PathService {
 
     private final StationService stationService;
-    private final SectionService sectionService;
-    private final LineService lineService;
+    private final ExtraFareIndex extraFareIndex;
+    private final RouteGraph routeGraph;
+    private final RouteCache routeCache;
+    private final FareTable fareTable;
 
-    public PathService(StationService stationService, SectionService sectionService, LineService lineService) {
+    public PathService(StationService stationService, ExtraFareIndex extraFareIndex, RouteGraph routeGraph,
+                       RouteCache routeCache,
+                       @Value("${subway.fare.table-max-distance:1000}") int fareTableMaxDistance) {
         this.stationService = stationService;
-        this.sectionService = sectionService;
-        this.lineService = lineService;
+        this.extraFareIndex = extraFareIndex;
+        this.routeGraph = routeGraph;
+        this.routeCache = routeCache;
+        this.fareTable = new FareTable(fareTableMaxDistance);
     }
 
     public PathServiceResponse findShortestPath(PathServiceRequest pathServiceRequest) {
@@ -31,32 +42,92 @@ public class PathService {
         Long arrivalId = pathServiceRequest.getArrivalId();
         int age = pathServiceRequest.getAge();
 
-        Sections sections = sectionService.findAll();
-        Path path = new Path(sections);
+        Route route = routeCache.get(departureId, arrivalId, () -> findRoute(departureId, arrivalId));
+        PathResult pathResult = route.getPathResult();
+        int fare = fareTable.calculate(pathResult.getDistance(), route.getExtraFare(), age);
+        return new PathServiceResponse(pathResult, route.getStations(), fare);
+    }
+
+    public FareMatrixServiceResponse findFareMatrix(FareMatrixServiceRequest fareMatrixServiceRequest) {
+        List<Long> departureIds = fareMatrixServiceRequest.getDepartureIds();
+        List<Long> arrivalIds = fareMatrixServiceRequest.getArrivalIds();
+        int age = fareMatrixServiceRequest.getAge();
+
+        List<List<Integer>> distances = new ArrayList<>(departureIds.size());
+        List<List<Integer>> fares = new ArrayList<>(departureIds.size());
+        for (Long departureId : departureIds) {
+            Map<Long, PathResult> pathResults = routeGraph.read(path -> path.findAll(departureId, arrivalIds,
+                    extraFareIndex::getExtraFare));
+            List<Integer> distanceRow = new ArrayList<>(arrivalIds.size());
+            List<Integer> fareRow = new ArrayList<>(arrivalIds.size());
+            for (Long arrivalId : arrivalIds) {
+                PathResult pathResult = pathResults.get(arrivalId);
+                distanceRow.add(pathResult == null ? null : pathResult.getDistance());
+                fareRow.add(pathResult == null ? null : getFare(pathResult, age));
+            }
+            distances.add(distanceRow);
+            fares.add(fareRow);
+        }
+        return new FareMatrixServiceResponse(departureIds, arrivalIds, distances, fares);
+    }
+
+    public List<ReachableServiceResponse> findReachableStations(ReachableServiceRequest reachableServiceRequest) {
+        Long departureId = reachableServiceRequest.getDepartureId();
+        int age = reachableServiceRequest.getAge();
+        Integer maxFareBudget = reachableServiceRequest.getMaxFare();
+        int maxFare = Objects.requireNonNullElse(maxFareBudget, Integer.MAX_VALUE);
+        int maxDistance = getDistanceLimit(reachableServiceRequest.getMaxDistance(), maxFareBudget, age);
 
-        List<Station> stations = getStations(path, departureId, arrivalId);
-        int distance = path.getShortestPathDistance(departureId, arrivalId);
-        int fare = getFare(age, sections, distance);
+        List<ReachableStation> reachableStations = routeGraph.read(path ->
+                path.findReachable(departureId, maxDistance, extraFareIndex::getExtraFare));
+        List<ReachableStation> affordableStations = new ArrayList<>(reachableStations.size());
+        List<Integer> fares = new ArrayList<>(reachableStations.size());
+        for (ReachableStation reachableStation : reachableStations) {
+            int fare = fareTable.calculate(reachableStation.getDistance(), reachableStation.getExtraFare(), age);
+            if (fare <= maxFare) {
+                affordableStations.add(reachableStation);
+                fares.add(fare);
+            }
+        }
 
-        return new PathServiceResponse(stations, distance, fare);
+        List<Station> stations = stationService.findAllByIds(affordableStations.stream()
+                .map(ReachableStation::getStationId)
+                .collect(Collectors.toList()));
+        List<ReachableServiceResponse> responses = new ArrayList<>(stations.size());
+        for (int i = 0; i < stations.size(); i++) {
+            responses.add(new ReachableServiceResponse(stations.get(i), affordableStations.get(i).getDistance(),
+                    fares.get(i)));
+        }
+        return responses;
     }
 
-    private List<Station> getStations(Path path, Long departureId, Long arrivalId) {
-        List<Long> shortestPathStationIds = path.getShortestPathStationIds(departureId, arrivalId);
-        return shortestPathStationIds.stream()
-                .map(stationService::findById)
-                .collect(Collectors.toList());
+    private int getDistanceLimit(Integer maxDistance, Integer maxFare, int age) {
+        if (maxDistance == null && maxFare == null) {
+            throw new IllegalArgumentException("거리 또는 운임 한도를 입력해야 합니다.");
+        }
+        int limit = FareTable.UNLIMITED_DISTANCE;
+        if (maxDistance != null) {
+            limit = maxDistance;
+        }
+        if (maxFare != null) {
+            limit = Math.min(limit, fareTable.maxDistanceWithin(maxFare, age));
+        }
+        return limit;
     }
 
-    private int getFare(int age, Sections sections, int distance) {
-        int extraFare = sections.getAllLindIds()
-                .stream()
-                .map(lineService::findById)
-                .mapToInt(LineServiceResponse::getExtraFare)
-                .max()
-                .orElse(0);
+    private int getFare(PathResult pathResult, int age) {
+        if (pathResult.getDistance() == 0) {
+            return 0;
+        }
+        int extraFare = extraFareIndex.getMaxExtraFare(pathResult.getLineIds());
+        return fareTable.calculate(pathResult.getDistance(), extraFare, age);
+    }
 
-        Fare fare = new Fare(FarePolicyFactory.from(distance), DiscountPolicyFactory.from(age));
-        return fare.calculate(distance, extraFare);
+    private Route findRoute(Long departureId, Long arrivalId) {
+        PathResult pathResult = routeGraph.read(path ->
+                path.find(departureId, arrivalId, extraFareIndex::getExtraFare));
+        List<Station> stations = stationService.findAllByIds(pathResult.getStationIds());
+        int extraFare = extraFareIndex.getMaxExtraFare(pathResult.getLineIds());
+        return new Route(pathResult, stations, extraFare);
     }
 }
@@ -0,0 +1,30 @@
+package wooteco.subway.service;
+
+import java.util.List;
+import wooteco.subway.domain.PathResult;
+import wooteco.subway.domain.Station;
+
+class Route {
+
+    private final PathResult pathResult;
+    private final List<Station> stations;
+    private final int extraFare;
+
+    Route(PathResult pathResult, List<Station> stations, int extraFare) {
+        this.pathResult = pathResult;
+        this.stations = stations;
+        this.extraFare = extraFare;
+    }
+
+    PathResult getPathResult() {
+        return pathResult;
+    }
+
+    List<Station> getStations() {
+        return stations;
+    }
+
+    int getExtraFare() {
+        return extraFare;
+    }
+}
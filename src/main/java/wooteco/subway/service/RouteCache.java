@@ -0,0 +1,87 @@
+package wooteco.subway.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RouteCache {
+
+    private final NetworkVersion networkVersion;
+    private final Map<RouteKey, VersionedRoute> routes;
+
+    public RouteCache(NetworkVersion networkVersion, @Value("${subway.route-cache.max-size:1000}") int maxSize) {
+        this.networkVersion = networkVersion;
+        this.routes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RouteKey, VersionedRoute> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    Route get(Long departureId, Long arrivalId, Supplier<Route> loader) {
+        RouteKey key = new RouteKey(departureId, arrivalId);
+        long version = networkVersion.get();
+        synchronized (routes) {
+            VersionedRoute route = routes.get(key);
+            if (route != null && route.version == version) {
+                return route.route;
+            }
+        }
+        Route route = loader.get();
+        synchronized (routes) {
+            routes.put(key, new VersionedRoute(version, route));
+        }
+        return route;
+    }
+
+    public int size() {
+        synchronized (routes) {
+            return routes.size();
+        }
+    }
+
+    private static class RouteKey {
+
+        private final Long departureId;
+        private final Long arrivalId;
+
+        private RouteKey(Long departureId, Long arrivalId) {
+            this.departureId = departureId;
+            this.arrivalId = arrivalId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RouteKey routeKey = (RouteKey) o;
+            return Objects.equals(departureId, routeKey.departureId) && Objects.equals(arrivalId,
+                    routeKey.arrivalId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(departureId, arrivalId);
+        }
+    }
+
+    private static class VersionedRoute {
+
+        private final long version;
+        private final Route route;
+
+        private VersionedRoute(long version, Route route) {
+            this.version = version;
+            this.route = route;
+        }
+    }
+}
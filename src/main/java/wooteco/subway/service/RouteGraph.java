@@ -0,0 +1,82 @@
+package wooteco.subway.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.domain.Path;
+import wooteco.subway.domain.graph.SearchStrategy;
+import wooteco.subway.service.event.SectionsChangedEvent;
+
+/**
+ * 현재 경로를 volatile 참조로 들고 있다. {@link Path} 는 만든 뒤 바뀌지 않으므로 조회는 잠금 없이 읽고,
+ * 구간이 바뀌면 새 경로를 만든 다음 참조만 바꾼다. 경로를 바꾸는 쪽은 synchronized 로 순서를 지킨다.
+ */
+@Component
+public class RouteGraph {
+
+    private final SectionDao sectionDao;
+    private final NetworkVersion networkVersion;
+    private final SearchStrategy strategy;
+    private final int allPairsMaxStations;
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor();
+
+    private volatile Path path;
+
+    public RouteGraph(SectionDao sectionDao, NetworkVersion networkVersion, @Value("${subway.path.strategy:DIJKSTRA}") SearchStrategy strategy,
+                      @Value("${subway.path.all-pairs-max-stations:2000}") int allPairsMaxStations) {
+        this.sectionDao = sectionDao;
+        this.networkVersion = networkVersion;
+        this.strategy = strategy;
+        this.allPairsMaxStations = allPairsMaxStations;
+    }
+
+    @PostConstruct
+    public synchronized void refresh() {
+        swap(new Path(sectionDao.loadGraph(), strategy, allPairsMaxStations));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSectionsChanged(SectionsChangedEvent event) {
+        Path path = this.path.update(event.getDeletedSections(), event.getSavedSections());
+        swap(path);
+        if (path.isRebuildRequired()) {
+            rebuilder.execute(() -> rebuild(path));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    public <T> T read(Function<Path, T> query) {
+        return query.apply(path);
+    }
+
+    private void rebuild(Path path) {
+        if (!isCurrent(path)) {
+            return;
+        }
+        Path rebuilt = path.rebuild();
+        synchronized (this) {
+            if (isCurrent(path)) {
+                swap(rebuilt);
+            }
+        }
+    }
+
+    private boolean isCurrent(Path path) {
+        return this.path == path;
+    }
+
+    private void swap(Path path) {
+        this.path = path;
+        networkVersion.increase();
+    }
+}
@@ -1,8 +1,10 @@
 package wooteco.subway.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.dao.SectionDao;
@@ -10,6 +12,7 @@ import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Sections;
 import wooteco.subway.domain.Station;
 import wooteco.subway.service.dto.SectionServiceRequest;
+import wooteco.subway.service.event.SectionsChangedEvent;
 
 @Transactional
 @Service
@@ -20,14 +23,18 @@ public class SectionService {
 
     private final StationService stationService;
     private final SectionDao sectionDao;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SectionService(StationService stationService, SectionDao sectionDao) {
+    public SectionService(StationService stationService, SectionDao sectionDao,
+                          ApplicationEventPublisher eventPublisher) {
         this.stationService = stationService;
         this.sectionDao = sectionDao;
+        this.eventPublisher = eventPublisher;
     }
 
     public void save(Section section) {
-        sectionDao.save(section);
+        Section savedSection = sectionDao.save(section);
+        eventPublisher.publishEvent(SectionsChangedEvent.saved(List.of(savedSection)));
     }
 
     public void connect(SectionServiceRequest sectionServiceRequest) {
@@ -61,40 +68,51 @@ public class SectionService {
     }
 
     private void insert(Section section, Section newSection) {
-        sectionDao.deleteById(section.getId());
         List<Section> sections = section.split(newSection);
-        sectionDao.saveAll(sections);
+        sectionDao.shiftPositions(section.getLineId(), section.getPosition() + 1);
+        sectionDao.replace(List.of(section.getId()), sections);
+        eventPublisher.publishEvent(new SectionsChangedEvent(List.of(section), sections));
     }
 
     private void extend(Section newSection) {
-        sectionDao.save(newSection);
+        Sections sections = sectionDao.findAllByLineId(newSection.getLineId());
+        Section savedSection = sectionDao.save(sections.extend(newSection));
+        eventPublisher.publishEvent(SectionsChangedEvent.saved(List.of(savedSection)));
     }
 
     public void delete(Long lineId, Long stationId) {
         Sections sections = sectionDao.findAllByLineId(lineId);
         Sections sectionsToDelete = sections.getSectionsToDelete(stationId);
-        List<Long> sectionIds = sectionsToDelete.getSectionIds();
-        deleteSections(sectionIds);
-        mergeSectionsIfNecessary(sectionsToDelete);
+        List<Section> mergedSections = mergeSectionsIfNecessary(sectionsToDelete);
+        sectionDao.replace(sectionsToDelete.getSectionIds(), mergedSections);
+        eventPublisher.publishEvent(new SectionsChangedEvent(sectionsToDelete.getSections(), mergedSections));
     }
 
-    private void deleteSections(List<Long> sectionIds) {
-        for (Long id : sectionIds) {
-            sectionDao.deleteById(id);
-        }
+    public void deleteAllByLineId(Long lineId) {
+        Sections sections = sectionDao.findAllByLineId(lineId);
+        sectionDao.deleteAllByLineId(lineId);
+        eventPublisher.publishEvent(SectionsChangedEvent.deleted(sections.getSections()));
     }
 
-    private void mergeSectionsIfNecessary(Sections sectionsToDelete) {
+    private List<Section> mergeSectionsIfNecessary(Sections sectionsToDelete) {
         if (sectionsToDelete.size() == DELETABLE_SECTION_SIZE) {
-            Section mergedSection = sectionsToDelete.merge();
-            sectionDao.save(mergedSection);
+            return List.of(sectionsToDelete.merge());
         }
+        return List.of();
     }
 
     public Sections findAllByLineId(Long lineId) {
         return sectionDao.findAllByLineId(lineId);
     }
 
+    public List<Long> findSortedStationIdsByLineId(Long lineId) {
+        return sectionDao.findSortedStationIdsByLineId(lineId);
+    }
+
+    public Map<Long, List<Long>> findAllSortedStationIds() {
+        return sectionDao.findAllSortedStationIds();
+    }
+
     public Sections findAll() {
         return sectionDao.findAll();
     }
@@ -0,0 +1,150 @@
+package wooteco.subway.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Station;
+import wooteco.subway.service.event.StationDeletedEvent;
+import wooteco.subway.service.event.StationSavedEvent;
+
+@Component
+@ManagedResource(objectName = StationCache.OBJECT_NAME, description = "역 캐시")
+public class StationCache {
+
+    public static final String OBJECT_NAME = "wooteco.subway:type=Cache,name=stationCache";
+
+    private final StationDao stationDao;
+    private final int maxSize;
+    private final Map<Long, Station> stations;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private long version;
+
+    public StationCache(StationDao stationDao, @Value("${subway.station-cache.max-size:10000}") int maxSize) {
+        this.stationDao = stationDao;
+        this.maxSize = maxSize;
+        this.stations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Station> eldest) {
+                return size() > StationCache.this.maxSize;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void preload() {
+        clear();
+        stationDao.findAll().stream()
+                .limit(maxSize)
+                .forEach(this::put);
+    }
+
+    public Station get(Long id, Function<Long, Station> loader) {
+        long version;
+        synchronized (stations) {
+            Station station = stations.get(id);
+            if (station != null) {
+                hitCount.incrementAndGet();
+                return station;
+            }
+            version = this.version;
+        }
+        missCount.incrementAndGet();
+        Station station = loader.apply(id);
+        putIfUnchanged(List.of(station), version);
+        return station;
+    }
+
+    public List<Station> getAll(List<Long> ids, Function<List<Long>, List<Station>> loader) {
+        Map<Long, Station> found = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        long version;
+        synchronized (stations) {
+            for (Long id : ids) {
+                Station station = stations.get(id);
+                if (station == null) {
+                    missingIds.add(id);
+                    continue;
+                }
+                found.put(id, station);
+            }
+            version = this.version;
+        }
+        hitCount.addAndGet(found.size());
+        missCount.addAndGet(missingIds.size());
+        if (!missingIds.isEmpty()) {
+            List<Station> loaded = loader.apply(missingIds);
+            loaded.forEach(station -> found.put(station.getId(), station));
+            putIfUnchanged(loaded, version);
+        }
+        return ids.stream()
+                .map(found::get)
+                .collect(Collectors.toList());
+    }
+
+    private void putIfUnchanged(List<Station> loaded, long version) {
+        synchronized (stations) {
+            if (this.version == version) {
+                loaded.forEach(station -> stations.put(station.getId(), station));
+            }
+        }
+    }
+
+    public void put(Station station) {
+        synchronized (stations) {
+            stations.put(station.getId(), station);
+        }
+    }
+
+    public void evict(Long id) {
+        synchronized (stations) {
+            version++;
+            stations.remove(id);
+        }
+    }
+
+    public void clear() {
+        synchronized (stations) {
+            version++;
+            stations.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationSaved(StationSavedEvent event) {
+        put(event.getStation());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationDeleted(StationDeletedEvent event) {
+        evict(event.getId());
+    }
+
+    public int size() {
+        synchronized (stations) {
+            return stations.size();
+        }
+    }
+
+    @ManagedAttribute(description = "캐시에서 찾은 역 조회 수")
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    @ManagedAttribute(description = "DB 에서 읽은 역 조회 수")
+    public long getMissCount() {
+        return missCount.get();
+    }
+}
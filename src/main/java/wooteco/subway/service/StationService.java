@@ -2,25 +2,33 @@ package wooteco.subway.service;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.dao.StationDao;
 import wooteco.subway.domain.Station;
 import wooteco.subway.service.dto.StationServiceResponse;
+import wooteco.subway.service.event.StationDeletedEvent;
+import wooteco.subway.service.event.StationSavedEvent;
 
 @Service
 public class StationService {
 
     private final StationDao stationDao;
+    private final StationCache stationCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public StationService(StationDao stationDao) {
+    public StationService(StationDao stationDao, StationCache stationCache, ApplicationEventPublisher eventPublisher) {
         this.stationDao = stationDao;
+        this.stationCache = stationCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public StationServiceResponse save(String name) {
         Station station = new Station(name);
         Station savedStation = stationDao.save(station);
+        eventPublisher.publishEvent(new StationSavedEvent(savedStation));
         return new StationServiceResponse(savedStation);
     }
 
@@ -34,7 +42,12 @@ public class StationService {
 
     @Transactional(readOnly = true)
     public Station findById(Long lindId) {
-        return stationDao.findById(lindId);
+        return stationCache.get(lindId, stationDao::findById);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Station> findAllByIds(List<Long> ids) {
+        return stationCache.getAll(ids, stationDao::findAllByIds);
     }
 
     @Transactional(readOnly = true)
@@ -45,5 +58,6 @@ public class StationService {
     @Transactional
     public void deleteById(Long id) {
         stationDao.deleteById(id);
+        eventPublisher.publishEvent(new StationDeletedEvent(id));
     }
 }
@@ -0,0 +1,33 @@
+package wooteco.subway.service.dto;
+
+import java.util.List;
+import wooteco.subway.ui.dto.FareMatrixRequest;
+
+public class FareMatrixServiceRequest {
+
+    private final List<Long> departureIds;
+    private final List<Long> arrivalIds;
+    private final Integer age;
+
+    public FareMatrixServiceRequest(List<Long> departureIds, List<Long> arrivalIds, Integer age) {
+        this.departureIds = departureIds;
+        this.arrivalIds = arrivalIds;
+        this.age = age;
+    }
+
+    public FareMatrixServiceRequest(FareMatrixRequest fareMatrixRequest) {
+        this(fareMatrixRequest.getSources(), fareMatrixRequest.getTargets(), fareMatrixRequest.getAge());
+    }
+
+    public List<Long> getDepartureIds() {
+        return departureIds;
+    }
+
+    public List<Long> getArrivalIds() {
+        return arrivalIds;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+}
@@ -0,0 +1,35 @@
+package wooteco.subway.service.dto;
+
+import java.util.List;
+
+public class FareMatrixServiceResponse {
+
+    private final List<Long> departureIds;
+    private final List<Long> arrivalIds;
+    private final List<List<Integer>> distances;
+    private final List<List<Integer>> fares;
+
+    public FareMatrixServiceResponse(List<Long> departureIds, List<Long> arrivalIds, List<List<Integer>> distances,
+                                     List<List<Integer>> fares) {
+        this.departureIds = departureIds;
+        this.arrivalIds = arrivalIds;
+        this.distances = distances;
+        this.fares = fares;
+    }
+
+    public List<Long> getDepartureIds() {
+        return departureIds;
+    }
+
+    public List<Long> getArrivalIds() {
+        return arrivalIds;
+    }
+
+    public List<List<Integer>> getDistances() {
+        return distances;
+    }
+
+    public List<List<Integer>> getFares() {
+        return fares;
+    }
+}
@@ -1,6 +1,7 @@
 package wooteco.subway.service.dto;
 
 import java.util.List;
+import wooteco.subway.domain.PathResult;
 import wooteco.subway.domain.Station;
 
 public class PathServiceResponse {
@@ -9,9 +10,9 @@ public class PathServiceResponse {
     private final int distance;
     private final int fare;
 
-    public PathServiceResponse(List<Station> stations, int distance, int fare) {
+    public PathServiceResponse(PathResult pathResult, List<Station> stations, int fare) {
         this.stations = stations;
-        this.distance = distance;
+        this.distance = pathResult.getDistance();
         this.fare = fare;
     }
 
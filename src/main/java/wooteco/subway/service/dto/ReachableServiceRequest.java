@@ -0,0 +1,39 @@
+package wooteco.subway.service.dto;
+
+import wooteco.subway.ui.dto.ReachableRequest;
+
+public class ReachableServiceRequest {
+
+    private final Long departureId;
+    private final Integer age;
+    private final Integer maxDistance;
+    private final Integer maxFare;
+
+    public ReachableServiceRequest(Long departureId, Integer age, Integer maxDistance, Integer maxFare) {
+        this.departureId = departureId;
+        this.age = age;
+        this.maxDistance = maxDistance;
+        this.maxFare = maxFare;
+    }
+
+    public ReachableServiceRequest(ReachableRequest reachableRequest) {
+        this(reachableRequest.getSource(), reachableRequest.getAge(), reachableRequest.getMaxDistance(),
+                reachableRequest.getMaxFare());
+    }
+
+    public Long getDepartureId() {
+        return departureId;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public Integer getMaxDistance() {
+        return maxDistance;
+    }
+
+    public Integer getMaxFare() {
+        return maxFare;
+    }
+}
@@ -0,0 +1,28 @@
+package wooteco.subway.service.dto;
+
+import wooteco.subway.domain.Station;
+
+public class ReachableServiceResponse {
+
+    private final StationServiceResponse station;
+    private final int distance;
+    private final int fare;
+
+    public ReachableServiceResponse(Station station, int distance, int fare) {
+        this.station = new StationServiceResponse(station);
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public StationServiceResponse getStation() {
+        return station;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
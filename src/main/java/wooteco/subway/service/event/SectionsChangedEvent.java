@@ -0,0 +1,32 @@
+package wooteco.subway.service.event;
+
+import java.util.List;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Sections;
+
+public class SectionsChangedEvent {
+
+    private final Sections deletedSections;
+    private final Sections savedSections;
+
+    public SectionsChangedEvent(List<Section> deletedSections, List<Section> savedSections) {
+        this.deletedSections = new Sections(deletedSections);
+        this.savedSections = new Sections(savedSections);
+    }
+
+    public static SectionsChangedEvent saved(List<Section> sections) {
+        return new SectionsChangedEvent(List.of(), sections);
+    }
+
+    public static SectionsChangedEvent deleted(List<Section> sections) {
+        return new SectionsChangedEvent(sections, List.of());
+    }
+
+    public Sections getDeletedSections() {
+        return deletedSections;
+    }
+
+    public Sections getSavedSections() {
+        return savedSections;
+    }
+}
@@ -0,0 +1,14 @@
+package wooteco.subway.service.event;
+
+public class StationDeletedEvent {
+
+    private final Long id;
+
+    public StationDeletedEvent(Long id) {
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
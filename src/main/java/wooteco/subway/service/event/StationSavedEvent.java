@@ -0,0 +1,16 @@
+package wooteco.subway.service.event;
+
+import wooteco.subway.domain.Station;
+
+public class StationSavedEvent {
+
+    private final Station station;
+
+    public StationSavedEvent(Station station) {
+        this.station = station;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+}
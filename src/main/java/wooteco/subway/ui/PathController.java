@@ -1,15 +1,27 @@
 package wooteco.subway.ui;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import wooteco.subway.service.PathService;
+import wooteco.subway.service.dto.FareMatrixServiceRequest;
+import wooteco.subway.service.dto.FareMatrixServiceResponse;
 import wooteco.subway.service.dto.PathServiceRequest;
 import wooteco.subway.service.dto.PathServiceResponse;
+import wooteco.subway.service.dto.ReachableServiceRequest;
+import wooteco.subway.ui.dto.FareMatrixRequest;
+import wooteco.subway.ui.dto.FareMatrixResponse;
 import wooteco.subway.ui.dto.PathRequest;
 import wooteco.subway.ui.dto.PathResponse;
+import wooteco.subway.ui.dto.ReachableRequest;
+import wooteco.subway.ui.dto.ReachableResponse;
 
 @RestController
 @RequestMapping("/paths")
@@ -22,9 +34,27 @@ public class PathController {
     }
 
     @GetMapping
-    public ResponseEntity<PathResponse> findShortestPath(@ModelAttribute PathRequest pathRequest) {
+    public ResponseEntity<PathResponse> findShortestPath(@ModelAttribute @Valid PathRequest pathRequest) {
         PathServiceRequest pathServiceRequest = new PathServiceRequest(pathRequest);
         PathServiceResponse pathServiceResponse = pathService.findShortestPath(pathServiceRequest);
         return ResponseEntity.ok(new PathResponse(pathServiceResponse));
     }
+
+    @GetMapping("/reachable")
+    public ResponseEntity<List<ReachableResponse>> findReachableStations(
+            @ModelAttribute @Valid ReachableRequest reachableRequest) {
+        ReachableServiceRequest reachableServiceRequest = new ReachableServiceRequest(reachableRequest);
+        List<ReachableResponse> reachableResponses = pathService.findReachableStations(reachableServiceRequest)
+                .stream()
+                .map(ReachableResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(reachableResponses);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<FareMatrixResponse> findFareMatrix(@RequestBody @Valid FareMatrixRequest fareMatrixRequest) {
+        FareMatrixServiceRequest fareMatrixServiceRequest = new FareMatrixServiceRequest(fareMatrixRequest);
+        FareMatrixServiceResponse fareMatrixServiceResponse = pathService.findFareMatrix(fareMatrixServiceRequest);
+        return ResponseEntity.ok(new FareMatrixResponse(fareMatrixServiceResponse));
+    }
 }
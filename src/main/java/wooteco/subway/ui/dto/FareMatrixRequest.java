@@ -0,0 +1,43 @@
+package wooteco.subway.ui.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+public class FareMatrixRequest {
+
+    private static final int MAX_STATION_COUNT = 100;
+
+    @NotEmpty(message = "출발역 id 목록이 필요합니다.")
+    @Size(max = MAX_STATION_COUNT, message = "출발역은 " + MAX_STATION_COUNT + "개까지 요청할 수 있습니다.")
+    private List<@NotNull(message = "출발역 id가 필요합니다.") Long> sources;
+
+    @NotEmpty(message = "도착역 id 목록이 필요합니다.")
+    @Size(max = MAX_STATION_COUNT, message = "도착역은 " + MAX_STATION_COUNT + "개까지 요청할 수 있습니다.")
+    private List<@NotNull(message = "도착역 id가 필요합니다.") Long> targets;
+
+    @NotNull(message = "나이가 필요합니다.")
+    private Integer age;
+
+    private FareMatrixRequest() {
+    }
+
+    public FareMatrixRequest(List<Long> sources, List<Long> targets, Integer age) {
+        this.sources = sources;
+        this.targets = targets;
+        this.age = age;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+}
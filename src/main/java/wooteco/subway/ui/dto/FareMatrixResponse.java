@@ -0,0 +1,38 @@
+package wooteco.subway.ui.dto;
+
+import java.util.List;
+import wooteco.subway.service.dto.FareMatrixServiceResponse;
+
+public class FareMatrixResponse {
+
+    private List<Long> sources;
+    private List<Long> targets;
+    private List<List<Integer>> distances;
+    private List<List<Integer>> fares;
+
+    private FareMatrixResponse() {
+    }
+
+    public FareMatrixResponse(FareMatrixServiceResponse fareMatrixServiceResponse) {
+        this.sources = fareMatrixServiceResponse.getDepartureIds();
+        this.targets = fareMatrixServiceResponse.getArrivalIds();
+        this.distances = fareMatrixServiceResponse.getDistances();
+        this.fares = fareMatrixServiceResponse.getFares();
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public List<List<Integer>> getDistances() {
+        return distances;
+    }
+
+    public List<List<Integer>> getFares() {
+        return fares;
+    }
+}
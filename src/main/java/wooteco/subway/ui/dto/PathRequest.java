@@ -1,9 +1,16 @@
 package wooteco.subway.ui.dto;
 
+import javax.validation.constraints.NotNull;
+
 public class PathRequest {
 
+    @NotNull(message = "출발역 id가 필요합니다.")
     private final Long source;
+
+    @NotNull(message = "도착역 id가 필요합니다.")
     private final Long target;
+
+    @NotNull(message = "나이가 필요합니다.")
     private final Integer age;
 
     public PathRequest(Long source, Long target, Integer age) {
@@ -0,0 +1,38 @@
+package wooteco.subway.ui.dto;
+
+import javax.validation.constraints.NotNull;
+
+public class ReachableRequest {
+
+    @NotNull(message = "출발역 id가 필요합니다.")
+    private final Long source;
+
+    @NotNull(message = "나이가 필요합니다.")
+    private final Integer age;
+
+    private final Integer maxDistance;
+    private final Integer maxFare;
+
+    public ReachableRequest(Long source, Integer age, Integer maxDistance, Integer maxFare) {
+        this.source = source;
+        this.age = age;
+        this.maxDistance = maxDistance;
+        this.maxFare = maxFare;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public Integer getMaxDistance() {
+        return maxDistance;
+    }
+
+    public Integer getMaxFare() {
+        return maxFare;
+    }
+}
@@ -0,0 +1,31 @@
+package wooteco.subway.ui.dto;
+
+import wooteco.subway.service.dto.ReachableServiceResponse;
+
+public class ReachableResponse {
+
+    private StationResponse station;
+    private int distance;
+    private int fare;
+
+    private ReachableResponse() {
+    }
+
+    public ReachableResponse(ReachableServiceResponse reachableServiceResponse) {
+        this.station = new StationResponse(reachableServiceResponse.getStation());
+        this.distance = reachableServiceResponse.getDistance();
+        this.fare = reachableServiceResponse.getFare();
+    }
+
+    public StationResponse getStation() {
+        return station;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
@@ -21,8 +21,13 @@ create table if not exists section
     up_station_id   bigint                not null,
     down_station_id bigint                not null,
     distance        int                   not null,
+    position        int                   not null,
     primary key (id),
-    foreign key (line_id)         references line (id) on delete cascade,
     foreign key (up_station_id)   references station (id),
     foreign key (down_station_id) references station (id)
 );
+
+-- H2 는 외래 키마다 line_id 단일 열 인덱스를 만들어 아래 인덱스 대신 고르므로, 노선의 구간은 외래 키 없이 LineService 가 지운다.
+create index if not exists section_line_position_idx on section (line_id, position);
+create index if not exists section_line_up_station_idx on section (line_id, up_station_id);
+create index if not exists section_line_down_station_idx on section (line_id, down_station_id);
@@ -10,6 +10,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.web.server.LocalServerPort;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
+import wooteco.subway.service.ExtraFareIndex;
+import wooteco.subway.service.RouteGraph;
+import wooteco.subway.service.StationCache;
 import wooteco.subway.ui.dto.LineRequest;
 import wooteco.subway.ui.dto.SectionRequest;
 import wooteco.subway.ui.dto.StationRequest;
@@ -20,6 +23,15 @@ public class AcceptanceTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private RouteGraph routeGraph;
+
+    @Autowired
+    private ExtraFareIndex extraFareIndex;
+
+    @Autowired
+    private StationCache stationCache;
+
     @LocalServerPort
     int port;
 
@@ -36,6 +48,9 @@ public class AcceptanceTest {
         jdbcTemplate.execute("ALTER TABLE station ALTER COLUMN id RESTART WITH 1");
         jdbcTemplate.execute("ALTER TABLE line ALTER COLUMN id RESTART WITH 1");
         jdbcTemplate.execute("ALTER TABLE section ALTER COLUMN id RESTART WITH 1");
+        routeGraph.refresh();
+        extraFareIndex.invalidate();
+        stationCache.clear();
     }
 
     ExtractableResponse<Response> createStation(StationRequest stationRequest) {
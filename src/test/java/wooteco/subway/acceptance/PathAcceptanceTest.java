@@ -6,15 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import wooteco.subway.ui.dto.ExceptionResponse;
+import wooteco.subway.ui.dto.FareMatrixRequest;
+import wooteco.subway.ui.dto.FareMatrixResponse;
 import wooteco.subway.ui.dto.LineRequest;
 import wooteco.subway.ui.dto.LineResponse;
 import wooteco.subway.ui.dto.PathResponse;
+import wooteco.subway.ui.dto.ReachableResponse;
 import wooteco.subway.ui.dto.SectionRequest;
 import wooteco.subway.ui.dto.StationRequest;
 import wooteco.subway.ui.dto.StationResponse;
@@ -367,6 +373,166 @@ class PathAcceptanceTest extends AcceptanceTest {
         );
     }
 
+    @DisplayName("여러 출발역과 도착역 사이의 거리와 운임 비용을 행렬로 응답한다.")
+    @Test
+    void findFareMatrix() {
+        Long stationId1 = createStation(new StationRequest("강남역")).as(StationResponse.class)
+                .getId();
+        Long stationId2 = createStation(new StationRequest("선릉역")).as(StationResponse.class)
+                .getId();
+        Long stationId3 = createStation(new StationRequest("수서역")).as(StationResponse.class)
+                .getId();
+
+        Long lineId = createLine(new LineRequest("2호선", "green", stationId1, stationId2, 2, 0))
+                .as(LineResponse.class).getId();
+        createSection(lineId, new SectionRequest(stationId2, stationId3, 10));
+
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(new FareMatrixRequest(List.of(stationId1), List.of(stationId2, stationId3), 20))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/paths/batch")
+                .then().log().all()
+                .extract();
+        FareMatrixResponse fareMatrixResponse = response.as(FareMatrixResponse.class);
+
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(fareMatrixResponse.getSources()).containsExactly(stationId1),
+                () -> assertThat(fareMatrixResponse.getTargets()).containsExactly(stationId2, stationId3),
+                () -> assertThat(fareMatrixResponse.getDistances()).containsExactly(List.of(2, 12)),
+                () -> assertThat(fareMatrixResponse.getFares()).containsExactly(List.of(1250, 1350))
+        );
+    }
+
+    @DisplayName("출발역 목록 없이 운임 행렬을 요청하면 badRequest를 응답한다.")
+    @Test
+    void findFareMatrix_exceptionEmptySources() {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(new FareMatrixRequest(List.of(), List.of(1L), 20))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/paths/batch")
+                .then().log().all()
+                .extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("출발역을 100개보다 많이 요청하면 badRequest를 응답한다.")
+    @Test
+    void findFareMatrix_exceptionTooManySources() {
+        List<Long> sources = LongStream.rangeClosed(1, 101)
+                .boxed()
+                .collect(Collectors.toList());
+
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(new FareMatrixRequest(sources, List.of(1L), 20))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/paths/batch")
+                .then().log().all()
+                .extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("도착역 id에 null이 있으면 badRequest를 응답한다.")
+    @Test
+    void findFareMatrix_exceptionNullTarget() {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(new FareMatrixRequest(List.of(1L), Arrays.asList(1L, null), 20))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/paths/batch")
+                .then().log().all()
+                .extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("운임 한도 안에서 갈 수 있는 역들과 거리, 운임 비용을 응답한다.")
+    @Test
+    void findReachableStations() {
+        Long stationId1 = createStation(new StationRequest("강남역")).as(StationResponse.class)
+                .getId();
+        Long stationId2 = createStation(new StationRequest("선릉역")).as(StationResponse.class)
+                .getId();
+        Long stationId3 = createStation(new StationRequest("수서역")).as(StationResponse.class)
+                .getId();
+
+        Long lineId = createLine(new LineRequest("2호선", "green", stationId1, stationId2, 2, 0))
+                .as(LineResponse.class).getId();
+        createSection(lineId, new SectionRequest(stationId2, stationId3, 10));
+
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get("/paths/reachable?source=" + stationId1 + "&age=20&maxFare=1250")
+                .then().log().all()
+                .extract();
+        List<ReachableResponse> reachableResponses = response.jsonPath().getList(".", ReachableResponse.class);
+
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(reachableResponses).hasSize(1),
+                () -> assertThat(reachableResponses.get(0).getStation().getId()).isEqualTo(stationId2),
+                () -> assertThat(reachableResponses.get(0).getDistance()).isEqualTo(2),
+                () -> assertThat(reachableResponses.get(0).getFare()).isEqualTo(1250)
+        );
+    }
+
+    @DisplayName("거리와 운임 한도 없이 갈 수 있는 역들을 요청하면 badRequest를 응답한다.")
+    @Test
+    void findReachableStations_exceptionNoBudget() {
+        Long stationId1 = createStation(new StationRequest("강남역")).as(StationResponse.class)
+                .getId();
+        Long stationId2 = createStation(new StationRequest("선릉역")).as(StationResponse.class)
+                .getId();
+        createLine(new LineRequest("2호선", "green", stationId1, stationId2, 2, 0));
+
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get("/paths/reachable?source=" + stationId1 + "&age=20")
+                .then().log().all()
+                .extract();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("나이 없이 최단 경로를 요청하면 badRequest를 응답한다.")
+    @Test
+    void findShortestPath_exceptionNoAge() {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get("/paths?source=1&target=2")
+                .then().log().all()
+                .extract();
+
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+                () -> assertThat(response.jsonPath().getString("age")).isEqualTo("나이가 필요합니다.")
+        );
+    }
+
+    @DisplayName("나이 없이 갈 수 있는 역들을 요청하면 badRequest를 응답한다.")
+    @Test
+    void findReachableStations_exceptionNoAge() {
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .get("/paths/reachable?source=1&maxDistance=10")
+                .then().log().all()
+                .extract();
+
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+                () -> assertThat(response.jsonPath().getString("age")).isEqualTo("나이가 필요합니다.")
+        );
+    }
+
     private ExtractableResponse<Response> findShortestPath(Long departureId, Long arrivalId, int age) {
         return RestAssured.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
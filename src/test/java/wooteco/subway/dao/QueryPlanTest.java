@@ -0,0 +1,133 @@
+package wooteco.subway.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@JdbcTest
+class QueryPlanTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+    private static final String INDEX_SORTED = "index sorted";
+    private static final String LINE_POSITION_INDEX = "SECTION_LINE_POSITION_IDX";
+    private static final String LINE_UP_STATION_INDEX = "SECTION_LINE_UP_STATION_IDX";
+    private static final String LINE_DOWN_STATION_INDEX = "SECTION_LINE_DOWN_STATION_IDX";
+
+    private final RecordingJdbcTemplate jdbcTemplate;
+    private final StationDao stationDao;
+    private final SectionDao sectionDao;
+
+    @Autowired
+    public QueryPlanTest(DataSource dataSource) {
+        this.jdbcTemplate = new RecordingJdbcTemplate(dataSource);
+        this.stationDao = new StationDao(jdbcTemplate);
+        this.sectionDao = new SectionDao(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE");
+    }
+
+    @DisplayName("같은 상행 또는 하행 종점을 가진 구간은 각각의 노선-역 인덱스로 찾는다.")
+    @Test
+    void findBy() {
+        sectionDao.findBy(1L, 1L, 2L);
+
+        assertThat(jdbcTemplate.explainLastQuery())
+                .contains(LINE_UP_STATION_INDEX, LINE_DOWN_STATION_INDEX)
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @DisplayName("노선의 구간은 노선-위치 인덱스 순서대로 읽어 정렬하지 않는다.")
+    @Test
+    void findAllByLineId() {
+        sectionDao.findAllByLineId(1L);
+
+        assertThat(jdbcTemplate.explainLastQuery())
+                .contains(LINE_POSITION_INDEX, INDEX_SORTED)
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @DisplayName("노선의 역 id는 노선-위치 인덱스 순서대로 읽어 정렬하지 않는다.")
+    @Test
+    void findSortedStationIdsByLineId() {
+        sectionDao.findSortedStationIdsByLineId(1L);
+
+        assertThat(jdbcTemplate.explainLastQuery())
+                .contains(LINE_POSITION_INDEX, INDEX_SORTED)
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @DisplayName("모든 노선의 역 id는 노선-위치 인덱스 순서대로 읽어 정렬하지 않는다.")
+    @Test
+    void findAllSortedStationIds() {
+        sectionDao.findAllSortedStationIds();
+
+        assertThat(jdbcTemplate.explainLastQuery())
+                .contains(LINE_POSITION_INDEX, INDEX_SORTED)
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @DisplayName("구간 위치를 밀 때 노선-위치 인덱스로 범위를 찾는다.")
+    @Test
+    void shiftPositions() {
+        sectionDao.shiftPositions(1L, 3);
+
+        assertThat(jdbcTemplate.explainLastQuery())
+                .contains(LINE_POSITION_INDEX)
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @DisplayName("노선의 구간을 지울 때 노선-위치 인덱스로 찾는다.")
+    @Test
+    void deleteAllByLineId() {
+        sectionDao.deleteAllByLineId(1L);
+
+        assertThat(jdbcTemplate.explainLastQuery())
+                .contains(LINE_POSITION_INDEX)
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    @DisplayName("노선의 역은 노선-역 인덱스로 id를 모아 전체 역을 훑지 않고 찾는다.")
+    @Test
+    void findAllStationsByLineId() {
+        stationDao.findAllByLineId(1L);
+
+        assertThat(jdbcTemplate.explainLastQuery())
+                .contains(LINE_UP_STATION_INDEX, LINE_DOWN_STATION_INDEX)
+                .doesNotContain(TABLE_SCAN);
+    }
+
+    private static class RecordingJdbcTemplate extends NamedParameterJdbcTemplate {
+
+        private String lastSql;
+        private SqlParameterSource lastParams;
+
+        private RecordingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        protected PreparedStatementCreator getPreparedStatementCreator(String sql, SqlParameterSource paramSource,
+                                                                       Consumer<PreparedStatementCreatorFactory> customizer) {
+            lastSql = sql;
+            lastParams = paramSource;
+            return super.getPreparedStatementCreator(sql, paramSource, customizer);
+        }
+
+        private String explainLastQuery() {
+            return queryForObject("EXPLAIN " + lastSql, lastParams, String.class);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package wooteco.subway.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
@@ -15,6 +17,7 @@ import wooteco.subway.domain.Line;
 import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Sections;
 import wooteco.subway.domain.Station;
+import wooteco.subway.domain.graph.StationGraph;
 
 @JdbcTest
 class SectionDaoTest {
@@ -68,6 +71,56 @@ class SectionDaoTest {
         assertThat(sectionDao.findAllByLineId(line.getId()).size()).isEqualTo(1);
     }
 
+    @DisplayName("노선의 구간을 위치 순서대로 찾아낸다.")
+    @Test
+    void findAllByLineIdOrderByPosition() {
+        final Station 수서 = stationDao.save(수서역);
+        final Section upper = sectionDao.save(
+                new Section(line.getId(), 수서.getId(), upStation.getId(), DISTANCE, -1));
+
+        assertThat(sectionDao.findAllByLineId(line.getId()).getSections()).containsExactly(upper, section);
+    }
+
+    @DisplayName("노선의 역 id를 상행 종점부터 구간 위치 순서대로 찾아낸다.")
+    @Test
+    void findSortedStationIdsByLineId() {
+        final Station 수서 = stationDao.save(수서역);
+        final Station 가락시장 = stationDao.save(가락시장역);
+        sectionDao.save(new Section(line.getId(), downStation.getId(), 가락시장.getId(), DISTANCE, 2));
+        sectionDao.save(new Section(line.getId(), 수서.getId(), upStation.getId(), DISTANCE, -1));
+
+        assertThat(sectionDao.findSortedStationIdsByLineId(line.getId()))
+                .containsExactly(수서.getId(), upStation.getId(), downStation.getId(), 가락시장.getId());
+    }
+
+    @DisplayName("모든 노선의 역 id를 노선별로 구간 위치 순서대로 찾아낸다.")
+    @Test
+    void findAllSortedStationIds() {
+        final Station 수서 = stationDao.save(수서역);
+        final Station 가락시장 = stationDao.save(가락시장역);
+        final Line line3 = lineDao.save(_3호선);
+        sectionDao.save(new Section(line.getId(), 수서.getId(), upStation.getId(), DISTANCE, -1));
+        sectionDao.save(new Section(line3.getId(), 수서.getId(), 가락시장.getId(), DISTANCE, 0));
+
+        assertThat(sectionDao.findAllSortedStationIds()).containsExactly(
+                entry(line.getId(), List.of(수서.getId(), upStation.getId(), downStation.getId())),
+                entry(line3.getId(), List.of(수서.getId(), 가락시장.getId())));
+    }
+
+    @DisplayName("주어진 위치부터 노선의 구간 위치를 하나씩 뒤로 민다.")
+    @Test
+    void shiftPositions() {
+        final Station 수서 = stationDao.save(수서역);
+        final Section lower = sectionDao.save(
+                new Section(line.getId(), downStation.getId(), 수서.getId(), DISTANCE, 1));
+
+        sectionDao.shiftPositions(line.getId(), 1);
+
+        assertThat(sectionDao.findAllByLineId(line.getId()).getSections())
+                .extracting(Section::getId, Section::getPosition)
+                .containsExactly(tuple(section.getId(), 0), tuple(lower.getId(), 2));
+    }
+
     @DisplayName("같은 상행 종점을 가진 구간을 찾아낸다.")
     @Test
     void findBySameUpStation() {
@@ -94,14 +147,31 @@ class SectionDaoTest {
         assertThat(section).isEmpty();
     }
 
+    @DisplayName("id 목록으로 구간을 한 번에 삭제한다.")
     @Test
-    @DisplayName("id로 노선을 삭제한다.")
-    void deleteById() {
-        sectionDao.deleteById(section.getId());
+    void deleteAllByIds() {
+        final Station farDownStation = stationDao.save(수서역);
+        final Section nextSection = sectionDao.save(
+                new Section(line.getId(), downStation.getId(), farDownStation.getId(), DISTANCE, 1));
+
+        sectionDao.deleteAllByIds(List.of(section.getId(), nextSection.getId()));
 
         assertThat(sectionDao.findAllByLineId(line.getId()).size()).isZero();
     }
 
+    @DisplayName("구간을 삭제하고 새 구간들을 저장한다.")
+    @Test
+    void replace() {
+        final Station middleStation = stationDao.save(수서역);
+
+        sectionDao.replace(List.of(section.getId()), List.of(
+                new Section(line.getId(), upStation.getId(), middleStation.getId(), 4, 0),
+                new Section(line.getId(), middleStation.getId(), downStation.getId(), 6, 1)));
+
+        assertThat(sectionDao.findSortedStationIdsByLineId(line.getId()))
+                .containsExactly(upStation.getId(), middleStation.getId(), downStation.getId());
+    }
+
     @DisplayName("모든 구간을 찾아낸다.")
     @Test
     void findAll() {
@@ -117,6 +187,25 @@ class SectionDaoTest {
         assertThat(sectionDao.findAll()).isEqualTo(expected);
     }
 
+    @DisplayName("모든 구간을 읽어 역 그래프를 만든다.")
+    @Test
+    void loadGraph() {
+        final Station upStation = stationDao.save(수서역);
+        final Line line = lineDao.save(_3호선);
+        sectionDao.save(new Section(line.getId(), upStation.getId(), this.upStation.getId(), 5));
+
+        final StationGraph graph = sectionDao.loadGraph();
+        final int gangnam = graph.indexOf(this.upStation.getId());
+        final int suseo = graph.indexOf(upStation.getId());
+        final int seolleung = graph.indexOf(downStation.getId());
+
+        assertAll(
+                () -> assertThat(graph.vertexCount()).isEqualTo(3),
+                () -> assertThat(graph.arcWeight(graph.findArc(gangnam, seolleung))).isEqualTo(DISTANCE),
+                () -> assertThat(graph.arcLineId(graph.findArc(suseo, gangnam))).isEqualTo(line.getId())
+        );
+    }
+
     @DisplayName("모든 구간을 저장한다.")
     @Test
     void saveAll() {
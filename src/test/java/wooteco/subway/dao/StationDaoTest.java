@@ -3,11 +3,13 @@ package wooteco.subway.dao;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import wooteco.subway.domain.Station;
 
@@ -60,6 +62,27 @@ class StationDaoTest {
         assertThat(stationDao.findById(station.getId()).getName()).isEqualTo(강남역.getName());
     }
 
+    @DisplayName("id 목록으로 지하철 역들을 요청한 순서대로 조회한다.")
+    @Test
+    void findAllByIds() {
+        final Station 강남 = stationDao.save(강남역);
+        final Station 선릉 = stationDao.save(선릉역);
+        final Station 잠실 = stationDao.save(잠실역);
+
+        assertThat(stationDao.findAllByIds(List.of(잠실.getId(), 강남.getId(), 선릉.getId())))
+                .extracting(Station::getName)
+                .containsExactly(잠실역.getName(), 강남역.getName(), 선릉역.getName());
+    }
+
+    @DisplayName("id 목록에 존재하지 않는 역이 있으면 예외가 발생한다.")
+    @Test
+    void findAllByIdsNotExisting() {
+        final Station 강남 = stationDao.save(강남역);
+
+        assertThatThrownBy(() -> stationDao.findAllByIds(List.of(강남.getId(), 강남.getId() + 1)))
+                .isInstanceOf(EmptyResultDataAccessException.class);
+    }
+
     @DisplayName("지하철 역을 삭제한다.")
     @Test
     void deleteById() {
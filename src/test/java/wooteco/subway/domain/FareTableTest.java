@@ -0,0 +1,54 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import wooteco.subway.domain.discountpolicy.DiscountPolicyFactory;
+import wooteco.subway.domain.farepolicy.FarePolicyFactory;
+
+class FareTableTest {
+
+    @DisplayName("표 범위 안팎의 모든 거리와 나이에 대해 Fare 와 같은 운임을 반환한다.")
+    @ParameterizedTest
+    @CsvSource({"0, 3", "0, 5", "900, 6", "900, 13", "300, 19", "0, 65"})
+    void calculateSameAsFare(final int extraFare, final int age) {
+        final FareTable fareTable = new FareTable(100);
+
+        for (int distance = 1; distance <= 200; distance++) {
+            final Fare fare = new Fare(FarePolicyFactory.from(distance), DiscountPolicyFactory.from(age));
+
+            assertThat(fareTable.calculate(distance, extraFare, age)).isEqualTo(fare.calculate(distance, extraFare));
+        }
+    }
+
+    @DisplayName("추가 요금 없이 운임 한도 안에서 갈 수 있는 가장 먼 거리를 반환한다.")
+    @ParameterizedTest
+    @CsvSource({"1250, 20, 10", "1350, 20, 15", "2050, 20, 50", "2150, 20, 58", "1000, 20, 0", "450, 10, 10"})
+    void maxDistanceWithin(final int fareBudget, final int age, final int expected) {
+        final FareTable fareTable = new FareTable(100);
+
+        assertThat(fareTable.maxDistanceWithin(fareBudget, age)).isEqualTo(expected);
+    }
+
+    @DisplayName("운임이 없는 나이는 거리 제한이 없다.")
+    @Test
+    void maxDistanceWithinFree() {
+        final FareTable fareTable = new FareTable(100);
+
+        assertThat(fareTable.maxDistanceWithin(0, 5)).isEqualTo(FareTable.UNLIMITED_DISTANCE);
+    }
+
+    @DisplayName("거리가 1보다 작으면 예외가 발생한다.")
+    @Test
+    void calculateInvalidDistance() {
+        final FareTable fareTable = new FareTable(100);
+
+        assertThatThrownBy(() -> fareTable.calculate(0, 0, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("거리는 1 이상의 정수여야 합니다.");
+    }
+}
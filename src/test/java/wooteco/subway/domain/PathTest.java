@@ -2,10 +2,15 @@ package wooteco.subway.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.graph.SearchStrategy;
 
 class PathTest {
 
@@ -15,6 +20,80 @@ class PathTest {
     private static final Section SECTION_3_5 = new Section(2L, 3L, 5L, 8);
     private static final Section SECTION_5_6 = new Section(2L, 5L, 6L, 8);
 
+    @DisplayName("한 번의 탐색으로 경유역 id들과 거리, 지나온 구간들을 반환한다.")
+    @Test
+    void find() {
+        final Path path = new Path(new Sections(List.of(SECTION_1_2, SECTION_2_3, SECTION_3_4, SECTION_3_5)));
+
+        final PathResult pathResult = path.find(1L, 5L);
+
+        assertAll(
+                () -> assertThat(pathResult.getStationIds()).containsExactly(1L, 2L, 3L, 5L),
+                () -> assertThat(pathResult.getDistance()).isEqualTo(28),
+                () -> assertThat(pathResult.getSections().getSections()).containsExactly(
+                        SECTION_1_2, SECTION_2_3, SECTION_3_5),
+                () -> assertThat(pathResult.getLineIds()).containsExactly(1L, 2L)
+        );
+    }
+
+    @DisplayName("출발역에서 여러 도착역까지의 경로를 한 번에 반환하고, 연결되지 않은 도착역은 제외한다.")
+    @Test
+    void findAll() {
+        final Section section_7_8 = new Section(3L, 7L, 8L, 5);
+        final Path path = new Path(new Sections(List.of(SECTION_1_2, SECTION_2_3, SECTION_3_4, section_7_8)));
+
+        final Map<Long, PathResult> pathResults = path.findAll(1L, List.of(4L, 2L, 8L));
+
+        assertAll(
+                () -> assertThat(pathResults).containsOnlyKeys(4L, 2L),
+                () -> assertThat(pathResults.get(4L).getStationIds()).containsExactly(1L, 2L, 3L, 4L),
+                () -> assertThat(pathResults.get(4L).getDistance()).isEqualTo(30),
+                () -> assertThat(pathResults.get(2L).getDistance()).isEqualTo(10)
+        );
+    }
+
+    @DisplayName("거리가 같은 두 노선의 구간이 겹치면 구간 순서와 관계없이 추가 요금이 적은 노선을 지난다.")
+    @Test
+    void findParallelSections() {
+        final Section expensive = new Section(1L, 1L, 2L, 10);
+        final Section cheap = new Section(2L, 1L, 2L, 10);
+        final ToIntFunction<Long> extraFareOfLine = lineId -> lineId == 1L ? 900 : 0;
+
+        assertAll(
+                () -> assertThat(new Path(new Sections(List.of(expensive, cheap))).find(1L, 2L, extraFareOfLine)
+                        .getLineIds()).containsExactly(2L),
+                () -> assertThat(new Path(new Sections(List.of(cheap, expensive))).find(1L, 2L, extraFareOfLine)
+                        .getLineIds()).containsExactly(2L),
+                () -> assertThat(new Path(new Sections(List.of(expensive, cheap))).findAll(1L, List.of(2L),
+                        extraFareOfLine).get(2L).getLineIds()).containsExactly(2L)
+        );
+    }
+
+    @DisplayName("구간에 등록되지 않은 출발역이나 도착역은 경로 없이 제외한다.")
+    @Test
+    void findAllNotRegistered() {
+        final Path path = new Path(new Sections(List.of(SECTION_1_2, SECTION_2_3)));
+
+        assertAll(
+                () -> assertThat(path.findAll(1L, List.of(99L, 3L))).containsOnlyKeys(3L),
+                () -> assertThat(path.findAll(99L, List.of(1L, 3L))).isEmpty()
+        );
+    }
+
+    @DisplayName("거리 한도 안에 있는 역들을 가까운 순서로, 지나온 노선의 최대 추가 요금과 함께 반환한다.")
+    @Test
+    void findReachable() {
+        final Path path = new Path(new Sections(List.of(SECTION_1_2, SECTION_2_3, SECTION_3_4, SECTION_3_5)));
+        final Map<Long, Integer> extraFares = Map.of(1L, 0, 2L, 500);
+
+        final List<ReachableStation> reachableStations = path.findReachable(1L, 28, extraFares::get);
+
+        assertThat(reachableStations)
+                .extracting(ReachableStation::getStationId, ReachableStation::getDistance,
+                        ReachableStation::getExtraFare)
+                .containsExactly(tuple(2L, 10, 0), tuple(3L, 20, 0), tuple(5L, 28, 500));
+    }
+
     @DisplayName("출발역id와 도착역id를 받아, 최단 경로에 해당하는 지하철역 id들을 반환한다.")
     @Test
     void getShortestPathStationIds() {
@@ -72,4 +151,86 @@ class PathTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("구간에 등록 되지 않은 역입니다.");
     }
+
+    @DisplayName("삭제된 구간과 추가된 구간을 경로에 반영한다.")
+    @Test
+    void update() {
+        final Path path = new Path(new Sections(List.of(SECTION_1_2, SECTION_2_3, SECTION_3_4, SECTION_3_5)));
+        final Section section_2_7 = new Section(1L, 2L, 7L, 4);
+        final Section section_7_3 = new Section(1L, 7L, 3L, 6);
+
+        final Path updated = path.update(new Sections(List.of(SECTION_2_3)),
+                new Sections(List.of(section_2_7, section_7_3)));
+
+        assertAll(
+                () -> assertThat(updated.getShortestPathStationIds(1L, 5L)).containsExactly(1L, 2L, 7L, 3L, 5L),
+                () -> assertThat(path.getShortestPathStationIds(1L, 5L)).containsExactly(1L, 2L, 3L, 5L)
+        );
+    }
+
+    @DisplayName("연결된 구간이 모두 삭제된 역은 경로에서 제거된다.")
+    @Test
+    void update_removeIsolatedStation() {
+        final Path path = new Path(new Sections(List.of(SECTION_1_2, SECTION_2_3, SECTION_3_4, SECTION_3_5)));
+
+        final Path updated = path.update(new Sections(List.of(SECTION_3_5)), new Sections(List.of()));
+
+        assertThatThrownBy(() -> updated.getShortestPathDistance(1L, 5L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("구간에 등록 되지 않은 역입니다.");
+    }
+
+    @DisplayName("양방향 탐색으로도 같은 최단 경로와 거리를 반환한다.")
+    @Test
+    void findWithBidirectionalStrategy() {
+        final Path path = new Path(new Sections(List.of(SECTION_1_2, SECTION_2_3, SECTION_3_4, SECTION_3_5)),
+                SearchStrategy.BIDIRECTIONAL);
+
+        assertAll(
+                () -> assertThat(path.getShortestPathStationIds(1L, 5L)).containsExactly(1L, 2L, 3L, 5L),
+                () -> assertThat(path.getShortestPathDistance(1L, 5L)).isEqualTo(28)
+        );
+    }
+
+    @DisplayName("전체 쌍 탐색은 구간이 바뀌면 다시 계산하기 전까지 다익스트라로 같은 경로를 찾는다.")
+    @Test
+    void updateWithAllPairsStrategy() {
+        final Path path = new Path(new Sections(List.of(SECTION_1_2, SECTION_2_3, SECTION_3_4, SECTION_3_5)),
+                SearchStrategy.ALL_PAIRS);
+        final Section section_2_7 = new Section(1L, 2L, 7L, 4);
+        final Section section_7_3 = new Section(1L, 7L, 3L, 6);
+
+        final Path updated = path.update(new Sections(List.of(SECTION_2_3)),
+                new Sections(List.of(section_2_7, section_7_3)));
+        final Path rebuilt = updated.rebuild();
+
+        assertAll(
+                () -> assertThat(updated.isRebuildRequired()).isTrue(),
+                () -> assertThat(updated.getShortestPathStationIds(1L, 5L)).containsExactly(1L, 2L, 7L, 3L, 5L),
+                () -> assertThat(rebuilt.isRebuildRequired()).isFalse(),
+                () -> assertThat(rebuilt.getShortestPathStationIds(1L, 5L)).containsExactly(1L, 2L, 7L, 3L, 5L)
+        );
+    }
+
+    @DisplayName("전처리 기반 탐색은 구간이 바뀌면 다시 전처리하기 전까지 다익스트라로, 전처리한 뒤에는 새 결과로 경로를 찾는다.")
+    @Test
+    void updateWithContractionHierarchiesStrategy() {
+        final Path path = new Path(new Sections(List.of(SECTION_1_2, SECTION_2_3, SECTION_3_4, SECTION_3_5)),
+                SearchStrategy.CONTRACTION_HIERARCHIES);
+        final Section section_2_7 = new Section(1L, 2L, 7L, 4);
+        final Section section_7_3 = new Section(1L, 7L, 3L, 6);
+
+        final Path updated = path.update(new Sections(List.of(SECTION_2_3)),
+                new Sections(List.of(section_2_7, section_7_3, SECTION_5_6)));
+
+        final Path rebuilt = updated.rebuild();
+
+        assertAll(
+                () -> assertThat(updated.isRebuildRequired()).isTrue(),
+                () -> assertThat(updated.getShortestPathStationIds(1L, 6L)).containsExactly(1L, 2L, 7L, 3L, 5L, 6L),
+                () -> assertThat(rebuilt.isRebuildRequired()).isFalse(),
+                () -> assertThat(rebuilt.getShortestPathStationIds(1L, 6L)).containsExactly(1L, 2L, 7L, 3L, 5L, 6L),
+                () -> assertThat(rebuilt.getShortestPathDistance(1L, 6L)).isEqualTo(36)
+        );
+    }
 }
@@ -44,6 +44,20 @@ class SectionTest {
         );
     }
 
+    @DisplayName("나눈 구간은 기존 구간의 위치와 그 다음 위치를 차례로 가진다.")
+    @Test
+    void splitPosition() {
+        final Section section = new Section(1L, 1L, 2L, 10, 3);
+
+        final List<Section> sameUpStation = section.split(new Section(1L, 1L, 3L, 5));
+        final List<Section> sameDownStation = section.split(new Section(1L, 3L, 2L, 5));
+
+        assertAll(
+                () -> assertThat(sameUpStation).extracting(Section::getPosition).containsExactly(3, 4),
+                () -> assertThat(sameDownStation).extracting(Section::getPosition).containsExactly(3, 4)
+        );
+    }
+
     @DisplayName("나누려는 새로운 구간의 길이가 기존 길이보다 클 경우 예외가 발생한다.")
     @Test
     void split_InvalidDistance_ThrowsException() {
@@ -63,6 +77,18 @@ class SectionTest {
         );
     }
 
+    @DisplayName("합친 구간은 전방 구간의 위치를 가진다.")
+    @Test
+    void mergePosition() {
+        final Section upper = new Section(1L, 1L, 2L, 10, 3);
+        final Section lower = new Section(1L, 2L, 3L, 10, 4);
+
+        assertAll(
+                () -> assertThat(upper.merge(lower).getPosition()).isEqualTo(3),
+                () -> assertThat(lower.merge(upper).getPosition()).isEqualTo(3)
+        );
+    }
+
     @DisplayName("후방 구간에 전방 구간을 합친다.")
     @Test
     void mergeBackward() {
@@ -13,12 +13,16 @@ class SectionsTest {
     private static final Section SECTION_2_3 = new Section(2L, 1L, 2L, 3L, 10);
     private static final Section SECTION_3_4 = new Section(3L, 1L, 3L, 4L, 10);
 
-    @DisplayName("구간 목록에 포함된 모든 역 id를 반환한다.")
+    @DisplayName("상행 종점을 연장하는 구간은 첫 구간의 앞, 하행 종점을 연장하는 구간은 마지막 구간의 뒤에 위치한다.")
     @Test
-    void getStationIds() {
-        final Sections sections = new Sections(List.of(SECTION_1_2, SECTION_2_3, SECTION_3_4));
+    void extend() {
+        final Sections sections = new Sections(List.of(
+                new Section(1L, 1L, 2L, 10, -1), new Section(1L, 2L, 3L, 10, 0), new Section(1L, 3L, 4L, 10, 2)));
 
-        assertThat(sections.getSortedStationIdsInSingleLine()).containsExactly(1L, 2L, 3L, 4L);
+        assertAll(
+                () -> assertThat(sections.extend(new Section(1L, 0L, 1L, 10)).getPosition()).isEqualTo(-2),
+                () -> assertThat(sections.extend(new Section(1L, 4L, 5L, 10)).getPosition()).isEqualTo(3)
+        );
     }
 
     @DisplayName("삭제 가능한 구간을 반환한다.")
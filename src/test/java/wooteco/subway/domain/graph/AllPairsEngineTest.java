@@ -0,0 +1,26 @@
+package wooteco.subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AllPairsEngineTest {
+
+    @DisplayName("역 수가 기준을 넘으면 미리 계산하지 않고 다익스트라로 탐색한다.")
+    @Test
+    void fallbackToDijkstra() {
+        final StationGraph graph = new StationGraphBuilder()
+                .addSection(1L, 1L, 2L, 10)
+                .addSection(1L, 2L, 3L, 10)
+                .build();
+
+        assertAll(
+                () -> assertThat(ShortestPathEngineFactory.from(SearchStrategy.ALL_PAIRS, graph, 3))
+                        .isInstanceOf(AllPairsEngine.class),
+                () -> assertThat(ShortestPathEngineFactory.from(SearchStrategy.ALL_PAIRS, graph, 2))
+                        .isInstanceOf(DijkstraEngine.class)
+        );
+    }
+}
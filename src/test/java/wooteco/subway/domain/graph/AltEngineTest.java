@@ -0,0 +1,39 @@
+package wooteco.subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AltEngineTest {
+
+    @DisplayName("격자 노선망에서 다익스트라와 같은 거리를 찾는다.")
+    @Test
+    void findSameAsDijkstraOnGrid() {
+        final int width = 40;
+        final Random random = new Random(7);
+        final StationGraphBuilder builder = new StationGraphBuilder();
+        for (int row = 0; row < width; row++) {
+            for (int column = 0; column < width; column++) {
+                final long station = row * width + column;
+                if (column + 1 < width) {
+                    builder.addSection(row, station, station + 1, 1 + random.nextInt(10));
+                }
+                if (row + 1 < width) {
+                    builder.addSection(width + column, station, station + width, 1 + random.nextInt(10));
+                }
+            }
+        }
+        final StationGraph graph = builder.build();
+        final DijkstraEngine dijkstra = new DijkstraEngine(graph);
+        final AltEngine alt = new AltEngine(graph);
+
+        for (int count = 0; count < 200; count++) {
+            final int source = random.nextInt(graph.vertexCount());
+            final int target = random.nextInt(graph.vertexCount());
+            assertThat(alt.find(source, target).getDistance())
+                    .isEqualTo(dijkstra.find(source, target).getDistance());
+        }
+    }
+}
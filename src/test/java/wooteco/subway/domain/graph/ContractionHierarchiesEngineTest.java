@@ -0,0 +1,30 @@
+package wooteco.subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContractionHierarchiesEngineTest {
+
+    @DisplayName("shortcut 으로 찾은 경로를 원래 구간 단위의 정점 순서로 풀어서 반환한다.")
+    @Test
+    void findUnpacked() {
+        final StationGraphBuilder builder = new StationGraphBuilder();
+        for (long station = 1; station < 50; station++) {
+            builder.addSection(1L, station, station + 1, 2);
+        }
+        final StationGraph graph = builder.build();
+
+        final ShortestPath shortestPath = new ContractionHierarchiesEngine(graph)
+                .find(graph.indexOf(1L), graph.indexOf(50L));
+
+        assertAll(
+                () -> assertThat(shortestPath.getVertices()).hasSize(50),
+                () -> assertThat(shortestPath.getVertices()).startsWith(graph.indexOf(1L), graph.indexOf(2L)),
+                () -> assertThat(shortestPath.getVertices()).endsWith(graph.indexOf(49L), graph.indexOf(50L)),
+                () -> assertThat(shortestPath.getDistance()).isEqualTo(98)
+        );
+    }
+}
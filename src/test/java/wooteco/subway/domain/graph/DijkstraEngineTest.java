@@ -0,0 +1,102 @@
+package wooteco.subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DijkstraEngineTest {
+
+    @DisplayName("한 번의 탐색으로 여러 도착 정점까지의 최단 경로를 반환한다.")
+    @Test
+    void findAll() {
+        final StationGraph graph = new StationGraphBuilder()
+                .addSection(1L, 1L, 2L, 10)
+                .addSection(1L, 2L, 3L, 10)
+                .addSection(2L, 1L, 3L, 25)
+                .addSection(3L, 4L, 5L, 10)
+                .build();
+
+        final ShortestPathTree tree = new DijkstraEngine(graph)
+                .findAll(graph.indexOf(1L), new int[]{graph.indexOf(3L), graph.indexOf(2L), graph.indexOf(5L)});
+
+        assertAll(
+                () -> assertThat(tree.pathTo(graph.indexOf(3L)).getDistance()).isEqualTo(20),
+                () -> assertThat(tree.pathTo(graph.indexOf(2L)).getVertices())
+                        .containsExactly(graph.indexOf(1L), graph.indexOf(2L)),
+                () -> assertThat(tree.pathTo(graph.indexOf(5L))).isNull()
+        );
+    }
+
+    @DisplayName("거리 한도 안의 정점만 가까운 순서로 방문하고 탐색을 멈춘다.")
+    @Test
+    void findWithin() {
+        final StationGraph graph = new StationGraphBuilder()
+                .addSection(1L, 1L, 2L, 10)
+                .addSection(1L, 2L, 3L, 10)
+                .addSection(1L, 3L, 4L, 10)
+                .addSection(2L, 1L, 5L, 5)
+                .build();
+
+        final ShortestPathTree tree = new DijkstraEngine(graph).findWithin(graph.indexOf(1L), 20);
+
+        assertAll(
+                () -> assertThat(tree.getSettled())
+                        .containsExactly(graph.indexOf(1L), graph.indexOf(5L), graph.indexOf(2L), graph.indexOf(3L)),
+                () -> assertThat(tree.distanceTo(graph.indexOf(3L))).isEqualTo(20),
+                () -> assertThat(tree.previousOf(graph.indexOf(3L))).isEqualTo(graph.indexOf(2L))
+        );
+    }
+
+    @DisplayName("무작위 그래프에서 플로이드-워셜 결과와 같은 거리를 반환한다.")
+    @Test
+    void findSameAsFloydWarshall() {
+        final Random random = new Random(7);
+        final int stationCount = 60;
+        final StationGraphBuilder builder = new StationGraphBuilder();
+        final int[][] expected = new int[stationCount][stationCount];
+        for (int i = 0; i < stationCount; i++) {
+            for (int j = 0; j < stationCount; j++) {
+                expected[i][j] = i == j ? 0 : Integer.MAX_VALUE / 2;
+            }
+        }
+        for (int count = 0; count < 150; count++) {
+            final int up = random.nextInt(stationCount);
+            final int down = random.nextInt(stationCount);
+            if (up == down) {
+                continue;
+            }
+            final int distance = 1 + random.nextInt(20);
+            builder.addSection(count % 5, up, down, distance);
+            expected[up][down] = Math.min(expected[up][down], distance);
+            expected[down][up] = Math.min(expected[down][up], distance);
+        }
+        for (int k = 0; k < stationCount; k++) {
+            for (int i = 0; i < stationCount; i++) {
+                for (int j = 0; j < stationCount; j++) {
+                    expected[i][j] = Math.min(expected[i][j], expected[i][k] + expected[k][j]);
+                }
+            }
+        }
+
+        final StationGraph graph = builder.build();
+        final DijkstraEngine engine = new DijkstraEngine(graph);
+        for (int up = 0; up < stationCount; up++) {
+            for (int down = 0; down < stationCount; down++) {
+                final int source = graph.indexOf(up);
+                final int target = graph.indexOf(down);
+                if (source == StationGraph.NONE || target == StationGraph.NONE) {
+                    continue;
+                }
+                final ShortestPath shortestPath = engine.find(source, target);
+                if (expected[up][down] >= Integer.MAX_VALUE / 2) {
+                    assertThat(shortestPath).isNull();
+                    continue;
+                }
+                assertThat(shortestPath.getDistance()).isEqualTo(expected[up][down]);
+            }
+        }
+    }
+}
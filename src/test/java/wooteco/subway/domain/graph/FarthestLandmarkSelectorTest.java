@@ -0,0 +1,46 @@
+package wooteco.subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FarthestLandmarkSelectorTest {
+
+    @DisplayName("이미 고른 랜드마크에서 가장 먼 역을 다음 랜드마크로 고른다.")
+    @Test
+    void select() {
+        final StationGraph graph = new StationGraphBuilder()
+                .addSection(1L, 1L, 2L, 10)
+                .addSection(1L, 2L, 3L, 10)
+                .addSection(1L, 3L, 4L, 10)
+                .build();
+
+        final int[] landmarks = new FarthestLandmarkSelector().select(graph, 2);
+
+        assertThat(landmarks).containsExactly(graph.indexOf(1L), graph.indexOf(4L));
+    }
+
+    @DisplayName("연결되지 않은 노선망마다 랜드마크를 고른다.")
+    @Test
+    void selectEachComponent() {
+        final StationGraph graph = new StationGraphBuilder()
+                .addSection(1L, 1L, 2L, 10)
+                .addSection(2L, 3L, 4L, 10)
+                .build();
+
+        final int[] landmarks = new FarthestLandmarkSelector().select(graph, 2);
+
+        assertThat(landmarks).containsExactly(graph.indexOf(1L), graph.indexOf(3L));
+    }
+
+    @DisplayName("역보다 많은 랜드마크를 요청하면 모든 역을 랜드마크로 고른다.")
+    @Test
+    void selectAll() {
+        final StationGraph graph = new StationGraphBuilder()
+                .addSection(1L, 1L, 2L, 10)
+                .build();
+
+        assertThat(new FarthestLandmarkSelector().select(graph, 5)).hasSize(2);
+    }
+}
@@ -0,0 +1,102 @@
+package wooteco.subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ShortestPathEngineTest {
+
+    @DisplayName("최단 경로의 정점 순서와 거리를 반환한다.")
+    @ParameterizedTest
+    @EnumSource(SearchStrategy.class)
+    void find(final SearchStrategy strategy) {
+        final StationGraph graph = new StationGraphBuilder()
+                .addSection(1L, 1L, 2L, 10)
+                .addSection(1L, 2L, 3L, 10)
+                .addSection(1L, 3L, 4L, 10)
+                .addSection(2L, 1L, 4L, 35)
+                .build();
+
+        final ShortestPath shortestPath = ShortestPathEngineFactory.from(strategy, graph)
+                .find(graph.indexOf(1L), graph.indexOf(4L));
+
+        assertAll(
+                () -> assertThat(shortestPath.getVertices()).containsExactly(
+                        graph.indexOf(1L), graph.indexOf(2L), graph.indexOf(3L), graph.indexOf(4L)),
+                () -> assertThat(shortestPath.getDistance()).isEqualTo(30)
+        );
+    }
+
+    @DisplayName("출발역과 도착역이 같으면 거리가 0인 경로를 반환한다.")
+    @ParameterizedTest
+    @EnumSource(SearchStrategy.class)
+    void findSameStation(final SearchStrategy strategy) {
+        final StationGraph graph = new StationGraphBuilder()
+                .addSection(1L, 1L, 2L, 10)
+                .build();
+
+        final ShortestPath shortestPath = ShortestPathEngineFactory.from(strategy, graph)
+                .find(graph.indexOf(1L), graph.indexOf(1L));
+
+        assertAll(
+                () -> assertThat(shortestPath.getVertices()).containsExactly(graph.indexOf(1L)),
+                () -> assertThat(shortestPath.getDistance()).isZero()
+        );
+    }
+
+    @DisplayName("연결되지 않은 정점 사이의 경로는 null 이다.")
+    @ParameterizedTest
+    @EnumSource(SearchStrategy.class)
+    void findNotConnected(final SearchStrategy strategy) {
+        final StationGraph graph = new StationGraphBuilder()
+                .addSection(1L, 1L, 2L, 10)
+                .addSection(2L, 3L, 4L, 10)
+                .build();
+
+        assertThat(ShortestPathEngineFactory.from(strategy, graph).find(graph.indexOf(1L), graph.indexOf(4L)))
+                .isNull();
+    }
+
+    @DisplayName("무작위 그래프에서 다익스트라와 같은 거리와 유효한 경로를 반환한다.")
+    @ParameterizedTest
+    @EnumSource(value = SearchStrategy.class, names = "DIJKSTRA", mode = EnumSource.Mode.EXCLUDE)
+    void findSameAsDijkstra(final SearchStrategy strategy) {
+        final Random random = new Random(11);
+        final StationGraphBuilder builder = new StationGraphBuilder();
+        for (int count = 0; count < 400; count++) {
+            final int up = random.nextInt(200);
+            final int down = random.nextInt(200);
+            if (up != down) {
+                builder.addSection(count % 7, up, down, 1 + random.nextInt(30));
+            }
+        }
+        final StationGraph graph = builder.build();
+        final DijkstraEngine dijkstra = new DijkstraEngine(graph);
+        final ShortestPathEngine engine = ShortestPathEngineFactory.from(strategy, graph);
+
+        for (int count = 0; count < 500; count++) {
+            final int source = random.nextInt(graph.vertexCount());
+            final int target = random.nextInt(graph.vertexCount());
+            final ShortestPath expected = dijkstra.find(source, target);
+            final ShortestPath actual = engine.find(source, target);
+            if (expected == null) {
+                assertThat(actual).isNull();
+                continue;
+            }
+            assertThat(actual.getDistance()).isEqualTo(expected.getDistance());
+            assertThat(sumOfWeights(graph, actual.getVertices())).isEqualTo(expected.getDistance());
+        }
+    }
+
+    private int sumOfWeights(StationGraph graph, int[] vertices) {
+        int sum = 0;
+        for (int i = 1; i < vertices.length; i++) {
+            sum += graph.arcWeight(graph.findArc(vertices[i - 1], vertices[i]));
+        }
+        return sum;
+    }
+}
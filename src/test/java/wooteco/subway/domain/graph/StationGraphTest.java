@@ -0,0 +1,194 @@
+package wooteco.subway.domain.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StationGraphTest {
+
+    private StationGraph createGraph() {
+        return new StationGraphBuilder()
+                .addSection(1L, 10L, 20L, 5)
+                .addSection(1L, 20L, 30L, 7)
+                .addSection(2L, 20L, 40L, 3)
+                .build();
+    }
+
+    @DisplayName("역 id 를 연속된 인덱스로 변환하고 양방향 arc 를 만든다.")
+    @Test
+    void build() {
+        final StationGraph graph = createGraph();
+
+        final int index = graph.indexOf(20L);
+
+        assertAll(
+                () -> assertThat(graph.vertexCount()).isEqualTo(4),
+                () -> assertThat(graph.stationIdOf(index)).isEqualTo(20L),
+                () -> assertThat(graph.arcEnd(index) - graph.arcStart(index)).isEqualTo(3),
+                () -> assertThat(graph.arcWeight(graph.findArc(graph.indexOf(30L), index))).isEqualTo(7)
+        );
+    }
+
+    @DisplayName("등록되지 않은 역의 인덱스는 NONE 이다.")
+    @Test
+    void indexOfNotRegistered() {
+        assertThat(createGraph().indexOf(99L)).isEqualTo(StationGraph.NONE);
+    }
+
+    @DisplayName("구간을 추가하면 양방향 arc 가 추가된다.")
+    @Test
+    void addSection() {
+        final StationGraph graph = createGraph();
+
+        graph.addSection(3L, 40L, 50L, 9);
+        graph.addSection(3L, 50L, 60L, 2);
+
+        final int index = graph.indexOf(50L);
+        assertAll(
+                () -> assertThat(graph.arcEnd(index) - graph.arcStart(index)).isEqualTo(2),
+                () -> assertThat(graph.arcLineId(graph.findArc(graph.indexOf(40L), index))).isEqualTo(3L),
+                () -> assertThat(graph.findArc(graph.indexOf(60L), index)).isNotEqualTo(StationGraph.NONE)
+        );
+    }
+
+    @DisplayName("구간을 삭제하면 양방향 arc 가 삭제되고, 연결된 구간이 없는 역은 등록되지 않은 역이 된다.")
+    @Test
+    void removeSection() {
+        final StationGraph graph = createGraph();
+
+        graph.removeSection(2L, 20L, 40L, 3);
+
+        final int index = graph.indexOf(20L);
+        assertAll(
+                () -> assertThat(graph.arcEnd(index) - graph.arcStart(index)).isEqualTo(2),
+                () -> assertThat(graph.indexOf(40L)).isEqualTo(StationGraph.NONE)
+        );
+    }
+
+    @DisplayName("삭제된 역에 다시 구간을 추가하면 같은 인덱스를 재사용한다.")
+    @Test
+    void reuseIndex() {
+        final StationGraph graph = createGraph();
+        final int index = graph.indexOf(40L);
+
+        graph.removeSection(2L, 20L, 40L, 3);
+        graph.addSection(2L, 30L, 40L, 4);
+
+        assertAll(
+                () -> assertThat(graph.indexOf(40L)).isEqualTo(index),
+                () -> assertThat(graph.vertexCount()).isEqualTo(4)
+        );
+    }
+
+    @DisplayName("복사한 그래프에 구간을 추가하거나 삭제해도 원본 그래프는 바뀌지 않는다.")
+    @Test
+    void copy() {
+        final StationGraph graph = createGraph();
+        final StationGraph copied = graph.copy();
+
+        copied.removeSection(2L, 20L, 40L, 3);
+        copied.addSection(3L, 30L, 50L, 9);
+
+        assertAll(
+                () -> assertThat(copied.indexOf(40L)).isEqualTo(StationGraph.NONE),
+                () -> assertThat(copied.indexOf(50L)).isNotEqualTo(StationGraph.NONE),
+                () -> assertThat(graph.indexOf(40L)).isNotEqualTo(StationGraph.NONE),
+                () -> assertThat(graph.indexOf(50L)).isEqualTo(StationGraph.NONE),
+                () -> assertThat(graph.arcEnd(graph.indexOf(30L)) - graph.arcStart(graph.indexOf(30L))).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("같은 그래프를 두 번 복사하거나 복사한 뒤 원본을 바꿔도 서로 영향을 주지 않는다.")
+    @Test
+    void copyIndependently() {
+        final StationGraph graph = createGraph();
+        final StationGraph first = graph.copy();
+        final StationGraph second = graph.copy();
+
+        first.addSection(3L, 40L, 50L, 9);
+        second.addSection(4L, 40L, 60L, 4);
+        graph.removeSection(1L, 10L, 20L, 5);
+
+        assertAll(
+                () -> assertThat(arcsOf(first)).contains("40-50:9@3").doesNotContain("40-60:4@4"),
+                () -> assertThat(arcsOf(second)).contains("40-60:4@4").doesNotContain("40-50:9@3"),
+                () -> assertThat(arcsOf(first)).contains("10-20:5@1"),
+                () -> assertThat(arcsOf(graph)).doesNotContain("10-20:5@1", "40-50:9@3", "40-60:4@4")
+        );
+    }
+
+    @DisplayName("복사를 이어 가며 구간을 무작위로 바꿔도 이전 그래프들은 복사할 때의 arc 를 그대로 유지한다.")
+    @Test
+    void copyChain() {
+        final Random random = new Random(3);
+        final List<long[]> sections = new ArrayList<>();
+        final List<StationGraph> versions = new ArrayList<>();
+        final List<List<String>> snapshots = new ArrayList<>();
+        StationGraph graph = createGraph();
+        sections.add(new long[]{1L, 10L, 20L, 5});
+        sections.add(new long[]{1L, 20L, 30L, 7});
+        sections.add(new long[]{2L, 20L, 40L, 3});
+
+        for (int version = 0; version < 300; version++) {
+            versions.add(graph);
+            snapshots.add(arcsOf(graph));
+            graph = graph.copy();
+            for (int edit = 0; edit < 3; edit++) {
+                if (!sections.isEmpty() && random.nextBoolean()) {
+                    final long[] section = sections.remove(random.nextInt(sections.size()));
+                    graph.removeSection(section[0], section[1], section[2], (int) section[3]);
+                    continue;
+                }
+                final long[] section = {random.nextInt(5), random.nextInt(60), 60 + random.nextInt(60),
+                        1 + random.nextInt(9)};
+                sections.add(section);
+                graph.addSection(section[0], section[1], section[2], (int) section[3]);
+            }
+        }
+
+        final StationGraphBuilder builder = new StationGraphBuilder();
+        sections.forEach(section -> builder.addSection(section[0], section[1], section[2], (int) section[3]));
+        assertThat(arcsOf(graph)).isEqualTo(arcsOf(builder.build()));
+        for (int version = 0; version < versions.size(); version++) {
+            assertThat(arcsOf(versions.get(version))).isEqualTo(snapshots.get(version));
+        }
+    }
+
+    @DisplayName("구간 추가와 삭제를 반복해도 arc 배열이 정리되어 올바른 차수를 유지한다.")
+    @Test
+    void repeatedUpdates() {
+        final StationGraph graph = createGraph();
+
+        for (long stationId = 100L; stationId < 1_100L; stationId++) {
+            graph.addSection(9L, 20L, stationId, 1);
+        }
+        for (long stationId = 100L; stationId < 1_100L; stationId += 2) {
+            graph.removeSection(9L, 20L, stationId, 1);
+        }
+
+        final int index = graph.indexOf(20L);
+        assertAll(
+                () -> assertThat(graph.arcEnd(index) - graph.arcStart(index)).isEqualTo(503),
+                () -> assertThat(graph.indexOf(100L)).isEqualTo(StationGraph.NONE),
+                () -> assertThat(graph.findArc(graph.indexOf(101L), index)).isNotEqualTo(StationGraph.NONE)
+        );
+    }
+
+    private List<String> arcsOf(StationGraph graph) {
+        final List<String> arcs = new ArrayList<>();
+        for (int index = 0; index < graph.vertexCount(); index++) {
+            for (int arc = graph.arcStart(index), end = graph.arcEnd(index); arc < end; arc++) {
+                arcs.add(graph.stationIdOf(index) + "-" + graph.stationIdOf(graph.arcTarget(arc)) + ":"
+                        + graph.arcWeight(arc) + "@" + graph.arcLineId(arc));
+            }
+        }
+        Collections.sort(arcs);
+        return arcs;
+    }
+}
@@ -0,0 +1,79 @@
+package wooteco.subway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Station;
+import wooteco.subway.service.dto.LineServiceRequest;
+import wooteco.subway.service.dto.LineServiceResponse;
+
+@SpringBootTest
+class ExtraFareIndexTest extends ServiceTest {
+
+    private final StationDao stationDao;
+    private final LineService lineService;
+    private final ExtraFareIndex extraFareIndex;
+
+    private Station upStation;
+    private Station downStation;
+
+    @Autowired
+    public ExtraFareIndexTest(StationDao stationDao, LineService lineService, ExtraFareIndex extraFareIndex) {
+        this.stationDao = stationDao;
+        this.lineService = lineService;
+        this.extraFareIndex = extraFareIndex;
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.upStation = stationDao.save(강남역);
+        this.downStation = stationDao.save(선릉역);
+    }
+
+    @DisplayName("주어진 노선들 중 가장 큰 추가 요금을 반환한다.")
+    @Test
+    void getMaxExtraFare() {
+        final LineServiceResponse line1 = lineService.save(
+                new LineServiceRequest("2호선", "green", upStation.getId(), downStation.getId(), 10, 300));
+        final LineServiceResponse line2 = lineService.save(
+                new LineServiceRequest("3호선", "orange", upStation.getId(), downStation.getId(), 10, 900));
+
+        assertThat(extraFareIndex.getMaxExtraFare(List.of(line1.getId(), line2.getId()))).isEqualTo(900);
+    }
+
+    @DisplayName("노선이 없으면 추가 요금은 0이다.")
+    @Test
+    void getMaxExtraFareWithoutLines() {
+        assertThat(extraFareIndex.getMaxExtraFare(List.of())).isZero();
+    }
+
+    @DisplayName("노선의 추가 요금을 수정하면 수정된 요금을 반환한다.")
+    @Test
+    void getMaxExtraFareAfterUpdate() {
+        final LineServiceResponse line = lineService.save(
+                new LineServiceRequest("2호선", "green", upStation.getId(), downStation.getId(), 10, 300));
+        extraFareIndex.getMaxExtraFare(List.of(line.getId()));
+
+        lineService.update(line.getId(), "2호선", "green", 500);
+
+        assertThat(extraFareIndex.getMaxExtraFare(List.of(line.getId()))).isEqualTo(500);
+    }
+
+    @DisplayName("노선을 삭제하면 추가 요금에서 제외된다.")
+    @Test
+    void getMaxExtraFareAfterDelete() {
+        final LineServiceResponse line = lineService.save(
+                new LineServiceRequest("2호선", "green", upStation.getId(), downStation.getId(), 10, 300));
+        extraFareIndex.getMaxExtraFare(List.of(line.getId()));
+
+        lineService.deleteById(line.getId());
+
+        assertThat(extraFareIndex.getMaxExtraFare(List.of(line.getId()))).isZero();
+    }
+}
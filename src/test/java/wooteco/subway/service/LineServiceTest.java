@@ -11,14 +11,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import wooteco.subway.dao.StationDao;
 import wooteco.subway.domain.Station;
 import wooteco.subway.service.dto.LineServiceRequest;
 import wooteco.subway.service.dto.LineServiceResponse;
+import wooteco.subway.service.dto.SectionServiceRequest;
+import wooteco.subway.service.dto.StationServiceResponse;
+import wooteco.subway.support.StatementCounter;
 
 @SpringBootTest
+@Import(StatementCounter.class)
 class LineServiceTest extends ServiceTest {
 
     private static final Station 교대역 = new Station("교대역");
@@ -26,13 +31,20 @@ class LineServiceTest extends ServiceTest {
 
     private final StationDao stationDao;
     private final LineService lineService;
+    private final SectionService sectionService;
+    private final StationCache stationCache;
+    private final StatementCounter statementCounter;
 
     private LineServiceRequest lineServiceRequest;
 
     @Autowired
-    public LineServiceTest(StationDao stationDao, LineService lineService) {
+    public LineServiceTest(StationDao stationDao, LineService lineService, SectionService sectionService,
+                           StationCache stationCache, StatementCounter statementCounter) {
         this.stationDao = stationDao;
         this.lineService = lineService;
+        this.sectionService = sectionService;
+        this.stationCache = stationCache;
+        this.statementCounter = statementCounter;
     }
 
     @BeforeEach
@@ -80,6 +92,47 @@ class LineServiceTest extends ServiceTest {
         assertThat(lineNames).containsExactly("2호선", "3호선");
     }
 
+    @DisplayName("모든 지하철 노선을 역이 상행 종점부터 정렬된 상태로 조회한다.")
+    @Test
+    void findAllSortedStations() {
+        final Station farUpStation = stationDao.save(교대역);
+        final LineServiceResponse line = lineService.save(this.lineServiceRequest);
+        final Long upStationId = lineServiceRequest.getUpStationId();
+        sectionService.connect(new SectionServiceRequest(line.getId(), farUpStation.getId(), upStationId, 5));
+
+        final List<LineServiceResponse> lines = lineService.findAll();
+
+        assertThat(lines.get(0).getStations())
+                .extracting(StationServiceResponse::getName)
+                .containsExactly("교대역", "강남역", "선릉역");
+    }
+
+    @DisplayName("노선 수와 관계없이 노선, 구간, 역을 한 번씩만 조회해 모든 노선을 찾는다.")
+    @Test
+    void findAllStatementCount() {
+        lineService.save(lineServiceRequest);
+        final int singleLineCount = countStatementsOfFindAll();
+
+        for (int i = 0; i < 4; i++) {
+            final Station upStation = stationDao.save(new Station("상행" + i + "역"));
+            final Station downStation = stationDao.save(new Station("하행" + i + "역"));
+            lineService.save(new LineServiceRequest((i + 10) + "호선", "blue", upStation.getId(), downStation.getId(), 10, 0));
+        }
+        final int fiveLinesCount = countStatementsOfFindAll();
+
+        assertAll(
+                () -> assertThat(singleLineCount).isEqualTo(3),
+                () -> assertThat(fiveLinesCount).isEqualTo(singleLineCount)
+        );
+    }
+
+    private int countStatementsOfFindAll() {
+        stationCache.clear();
+        statementCounter.reset();
+        lineService.findAll();
+        return statementCounter.count();
+    }
+
     @DisplayName("지하철 노선을 조회한다.")
     @Test
     void findById() {
@@ -118,6 +171,9 @@ class LineServiceTest extends ServiceTest {
 
         lineService.deleteById(lineServiceResponse.getId());
 
-        assertThat(lineService.findAll().size()).isZero();
+        assertAll(
+                () -> assertThat(lineService.findAll().size()).isZero(),
+                () -> assertThat(sectionService.findAllByLineId(lineServiceResponse.getId()).size()).isZero()
+        );
     }
 }
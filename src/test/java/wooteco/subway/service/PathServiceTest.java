@@ -2,8 +2,11 @@ package wooteco.subway.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,10 +16,14 @@ import wooteco.subway.dao.SectionDao;
 import wooteco.subway.dao.StationDao;
 import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Station;
+import wooteco.subway.service.dto.FareMatrixServiceRequest;
+import wooteco.subway.service.dto.FareMatrixServiceResponse;
 import wooteco.subway.service.dto.LineServiceRequest;
 import wooteco.subway.service.dto.LineServiceResponse;
 import wooteco.subway.service.dto.PathServiceRequest;
 import wooteco.subway.service.dto.PathServiceResponse;
+import wooteco.subway.service.dto.ReachableServiceRequest;
+import wooteco.subway.service.dto.ReachableServiceResponse;
 
 @SpringBootTest
 class PathServiceTest extends ServiceTest {
@@ -48,6 +55,7 @@ class PathServiceTest extends ServiceTest {
         LineServiceResponse line = lineService.save(
                 new LineServiceRequest("2호선", "green", station1.getId(), station2.getId(), 2, 0));
         sectionDao.save(new Section(line.getId(), station2.getId(), station3.getId(), 3));
+        routeGraph.refresh();
     }
 
     @DisplayName("최단 경로의 경유역들과 거리, 운임비용을 반환한다.")
@@ -82,6 +90,20 @@ class PathServiceTest extends ServiceTest {
         );
     }
 
+    @DisplayName("최단 경로가 지나지 않는 노선의 추가 요금은 운임비용에 반영하지 않는다.")
+    @Test
+    void findShortestPathIgnoringUntraversedLineExtraFare() {
+        lineService.save(new LineServiceRequest("3호선", "orange", station2.getId(), station4.getId(), 4, 0));
+        final Station station5 = stationDao.save(new Station("천호역"));
+        lineService.save(new LineServiceRequest("5호선", "purple", station4.getId(), station5.getId(), 4, 900));
+
+        final PathServiceRequest pathServiceRequest = new PathServiceRequest(station1.getId(), station4.getId(), 20);
+
+        final PathServiceResponse pathServiceResponse = pathService.findShortestPath(pathServiceRequest);
+
+        assertThat(pathServiceResponse.getFare()).isEqualTo(1250);
+    }
+
     @DisplayName("최단 경로의 경유역들과 거리, 어린이 운임비용을 반환한다.")
     @Test
     void findChildrenPolicyShortestPath() {
@@ -178,6 +200,97 @@ class PathServiceTest extends ServiceTest {
         );
     }
 
+    @DisplayName("거리가 같은 두 노선의 구간이 겹치면 추가 요금이 적은 노선으로 운임을 계산한다.")
+    @Test
+    void findShortestPath_parallelSections() {
+        final Station station5 = stationDao.save(new Station("천호역"));
+        final Station station6 = stationDao.save(new Station("강동역"));
+        lineService.save(new LineServiceRequest("신분당선", "red", station5.getId(), station6.getId(), 5, 900));
+        lineService.save(new LineServiceRequest("5호선", "purple", station5.getId(), station6.getId(), 5, 0));
+
+        final PathServiceResponse pathServiceResponse = pathService.findShortestPath(
+                new PathServiceRequest(station5.getId(), station6.getId(), 20));
+
+        assertThat(pathServiceResponse.getFare()).isEqualTo(1250);
+    }
+
+    @DisplayName("여러 출발역과 도착역 사이의 거리와 운임비용을 행렬로 반환한다.")
+    @Test
+    void findFareMatrix() {
+        lineService.save(new LineServiceRequest("3호선", "orange", station2.getId(), station4.getId(), 4, 900));
+        final Station station5 = stationDao.save(new Station("천호역"));
+        final Station station6 = stationDao.save(new Station("강동역"));
+        lineService.save(new LineServiceRequest("5호선", "purple", station5.getId(), station6.getId(), 4, 0));
+
+        final List<Long> departureIds = List.of(station1.getId(), station2.getId());
+        final List<Long> arrivalIds = List.of(station4.getId(), station1.getId(), station6.getId());
+
+        final FareMatrixServiceResponse response = pathService.findFareMatrix(
+                new FareMatrixServiceRequest(departureIds, arrivalIds, 20));
+
+        assertAll(
+                () -> assertThat(response.getDistances()).containsExactly(
+                        Arrays.asList(6, 0, null), Arrays.asList(4, 2, null)),
+                () -> assertThat(response.getFares()).containsExactly(
+                        Arrays.asList(2150, 0, null), Arrays.asList(2150, 1250, null))
+        );
+    }
+
+    @DisplayName("구간에 등록되지 않은 역이 있으면 해당 칸만 비운 운임 행렬을 반환한다.")
+    @Test
+    void findFareMatrix_notRegisteredStation() {
+        final Station unregistered = stationDao.save(new Station("천호역"));
+        final List<Long> departureIds = List.of(station1.getId(), unregistered.getId());
+        final List<Long> arrivalIds = List.of(station2.getId(), unregistered.getId());
+
+        final FareMatrixServiceResponse response = pathService.findFareMatrix(
+                new FareMatrixServiceRequest(departureIds, arrivalIds, 20));
+
+        assertAll(
+                () -> assertThat(response.getDistances()).containsExactly(
+                        Arrays.asList(2, null), Arrays.asList(null, null)),
+                () -> assertThat(response.getFares()).containsExactly(
+                        Arrays.asList(1250, null), Arrays.asList(null, null))
+        );
+    }
+
+    @DisplayName("운임 한도 안에서 갈 수 있는 역들을 거리와 운임비용과 함께 가까운 순서로 반환한다.")
+    @Test
+    void findReachableStations_maxFare() {
+        lineService.save(new LineServiceRequest("3호선", "orange", station2.getId(), station4.getId(), 4, 900));
+
+        final List<ReachableServiceResponse> responses = pathService.findReachableStations(
+                new ReachableServiceRequest(station1.getId(), 20, null, 1250));
+
+        assertThat(responses)
+                .extracting(response -> response.getStation().getName(), ReachableServiceResponse::getDistance,
+                        ReachableServiceResponse::getFare)
+                .containsExactly(tuple("선릉역", 2, 1250), tuple("수서역", 5, 1250));
+    }
+
+    @DisplayName("거리 한도 안에서 갈 수 있는 역들을 반환한다.")
+    @Test
+    void findReachableStations_maxDistance() {
+        lineService.save(new LineServiceRequest("3호선", "orange", station2.getId(), station4.getId(), 4, 900));
+
+        final List<ReachableServiceResponse> responses = pathService.findReachableStations(
+                new ReachableServiceRequest(station1.getId(), 20, 6, null));
+
+        assertThat(responses)
+                .extracting(response -> response.getStation().getName(), ReachableServiceResponse::getFare)
+                .containsExactly(tuple("선릉역", 1250), tuple("수서역", 1250), tuple("가락시장역", 2150));
+    }
+
+    @DisplayName("거리와 운임 한도가 모두 없으면 예외가 발생한다.")
+    @Test
+    void findReachableStations_exceptionNoBudget() {
+        final ReachableServiceRequest request = new ReachableServiceRequest(station1.getId(), 20, null, null);
+
+        assertThatThrownBy(() -> pathService.findReachableStations(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("거리 또는 운임 한도를 입력해야 합니다.");
+    }
+
     @DisplayName("구간에 등록되지않은 지하철역으로 최단 경로 조회시 예외가 발생한다.")
     @Test
     void findShortestPath_exceptionNotSavedInSection() {
@@ -0,0 +1,92 @@
+package wooteco.subway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Station;
+import wooteco.subway.service.dto.LineServiceRequest;
+import wooteco.subway.service.dto.LineServiceResponse;
+import wooteco.subway.service.dto.PathServiceRequest;
+import wooteco.subway.service.dto.PathServiceResponse;
+import wooteco.subway.service.dto.SectionServiceRequest;
+
+@SpringBootTest
+class RouteCacheTest extends ServiceTest {
+
+    private final StationDao stationDao;
+    private final LineService lineService;
+    private final SectionService sectionService;
+    private final PathService pathService;
+    private final RouteCache routeCache;
+
+    private Station upStation;
+    private Station downStation;
+    private LineServiceResponse line;
+
+    @Autowired
+    public RouteCacheTest(StationDao stationDao, LineService lineService, SectionService sectionService,
+                          PathService pathService, RouteCache routeCache) {
+        this.stationDao = stationDao;
+        this.lineService = lineService;
+        this.sectionService = sectionService;
+        this.pathService = pathService;
+        this.routeCache = routeCache;
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.upStation = stationDao.save(강남역);
+        this.downStation = stationDao.save(선릉역);
+        this.line = lineService.save(
+                new LineServiceRequest("2호선", "green", upStation.getId(), downStation.getId(), 10, 0));
+    }
+
+    @DisplayName("나이와 관계없이 같은 경로 조회는 한 번의 탐색 결과를 함께 쓰고, 운임만 요청마다 계산한다.")
+    @Test
+    void shareRouteAcrossAges() {
+        final int size = routeCache.size();
+        final PathServiceResponse adult = pathService.findShortestPath(
+                new PathServiceRequest(upStation.getId(), downStation.getId(), 20));
+
+        final PathServiceResponse child = pathService.findShortestPath(
+                new PathServiceRequest(upStation.getId(), downStation.getId(), 10));
+
+        assertAll(
+                () -> assertThat(routeCache.size()).isEqualTo(size + 1),
+                () -> assertThat(child.getStations()).isSameAs(adult.getStations()),
+                () -> assertThat(adult.getFare()).isEqualTo(1250),
+                () -> assertThat(child.getFare()).isEqualTo(450)
+        );
+    }
+
+    @DisplayName("구간이 바뀌면 노선망 버전이 올라가 경로를 다시 계산한다.")
+    @Test
+    void recomputeAfterSectionChange() {
+        pathService.findShortestPath(new PathServiceRequest(upStation.getId(), downStation.getId(), 20));
+        final Station middleStation = stationDao.save(new Station("역삼역"));
+
+        sectionService.connect(new SectionServiceRequest(line.getId(), upStation.getId(), middleStation.getId(), 4));
+        final PathServiceResponse response = pathService.findShortestPath(
+                new PathServiceRequest(upStation.getId(), downStation.getId(), 20));
+
+        assertThat(response.getStations()).containsExactly(upStation, middleStation, downStation);
+    }
+
+    @DisplayName("노선의 추가 요금이 바뀌면 운임을 다시 계산한다.")
+    @Test
+    void recomputeAfterLineUpdate() {
+        pathService.findShortestPath(new PathServiceRequest(upStation.getId(), downStation.getId(), 20));
+
+        lineService.update(line.getId(), "2호선", "green", 900);
+        final PathServiceResponse response = pathService.findShortestPath(
+                new PathServiceRequest(upStation.getId(), downStation.getId(), 20));
+
+        assertThat(response.getFare()).isEqualTo(2150);
+    }
+}
@@ -0,0 +1,95 @@
+package wooteco.subway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Station;
+import wooteco.subway.service.dto.LineServiceRequest;
+import wooteco.subway.service.dto.LineServiceResponse;
+import wooteco.subway.service.dto.SectionServiceRequest;
+
+@SpringBootTest
+class RouteGraphTest extends ServiceTest {
+
+    private final StationDao stationDao;
+    private final LineService lineService;
+    private final SectionService sectionService;
+
+    private Station upStation;
+    private Station downStation;
+    private LineServiceResponse line;
+
+    @Autowired
+    public RouteGraphTest(StationDao stationDao, LineService lineService, SectionService sectionService) {
+        this.stationDao = stationDao;
+        this.lineService = lineService;
+        this.sectionService = sectionService;
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.upStation = stationDao.save(강남역);
+        this.downStation = stationDao.save(선릉역);
+        this.line = lineService.save(
+                new LineServiceRequest("2호선", "green", upStation.getId(), downStation.getId(), 10, 0));
+    }
+
+    @DisplayName("노선을 저장하면 경로 그래프에 구간이 반영된다.")
+    @Test
+    void refreshOnLineSave() {
+        final int distance = routeGraph.read(
+                path -> path.getShortestPathDistance(upStation.getId(), downStation.getId()));
+
+        assertThat(distance).isEqualTo(10);
+    }
+
+    @DisplayName("구간을 연결하면 경로 그래프에 구간이 반영된다.")
+    @Test
+    void updateOnConnect() {
+        final Station middleStation = stationDao.save(new Station("역삼역"));
+
+        sectionService.connect(new SectionServiceRequest(line.getId(), upStation.getId(), middleStation.getId(), 4));
+
+        final List<Long> stationIds = routeGraph.read(
+                path -> path.getShortestPathStationIds(upStation.getId(), downStation.getId()));
+        assertThat(stationIds).containsExactly(upStation.getId(), middleStation.getId(), downStation.getId());
+    }
+
+    @DisplayName("중간역을 삭제하면 병합된 구간이 경로 그래프에 반영된다.")
+    @Test
+    void updateOnMiddleStationDelete() {
+        final Station middleStation = stationDao.save(new Station("역삼역"));
+        sectionService.connect(new SectionServiceRequest(line.getId(), upStation.getId(), middleStation.getId(), 4));
+
+        sectionService.delete(line.getId(), middleStation.getId());
+
+        final List<Long> stationIds = routeGraph.read(
+                path -> path.getShortestPathStationIds(upStation.getId(), downStation.getId()));
+        assertAll(
+                () -> assertThat(stationIds).containsExactly(upStation.getId(), downStation.getId()),
+                () -> assertThatThrownBy(() -> routeGraph.read(
+                        path -> path.getShortestPathDistance(upStation.getId(), middleStation.getId())))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("구간에 등록 되지 않은 역입니다.")
+        );
+    }
+
+    @DisplayName("노선을 삭제하면 경로 그래프에서 구간이 제거된다.")
+    @Test
+    void updateOnLineDelete() {
+        lineService.deleteById(line.getId());
+
+        assertThatThrownBy(() -> routeGraph.read(
+                path -> path.getShortestPathDistance(upStation.getId(), downStation.getId())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("구간에 등록 되지 않은 역입니다.");
+    }
+}
@@ -2,12 +2,14 @@ package wooteco.subway.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.EmptyResultDataAccessException;
 import wooteco.subway.dao.SectionDao;
 import wooteco.subway.dao.StationDao;
@@ -15,8 +17,10 @@ import wooteco.subway.domain.Station;
 import wooteco.subway.service.dto.LineServiceRequest;
 import wooteco.subway.service.dto.LineServiceResponse;
 import wooteco.subway.service.dto.SectionServiceRequest;
+import wooteco.subway.support.StatementCounter;
 
 @SpringBootTest
+@Import(StatementCounter.class)
 class SectionServiceTest extends ServiceTest {
 
     private static final Station 잠실역 = new Station("잠실역");
@@ -26,6 +30,7 @@ class SectionServiceTest extends ServiceTest {
     private final SectionDao sectionDao;
     private final LineService lineService;
     private final SectionService sectionService;
+    private final StatementCounter statementCounter;
 
     private Station upStation;
     private Station downStation;
@@ -33,11 +38,12 @@ class SectionServiceTest extends ServiceTest {
 
     @Autowired
     public SectionServiceTest(StationDao stationDao, SectionDao sectionDao, LineService lineService,
-                              SectionService sectionService) {
+                              SectionService sectionService, StatementCounter statementCounter) {
         this.stationDao = stationDao;
         this.sectionDao = sectionDao;
         this.lineService = lineService;
         this.sectionService = sectionService;
+        this.statementCounter = statementCounter;
     }
 
     @BeforeEach
@@ -198,6 +204,65 @@ class SectionServiceTest extends ServiceTest {
         assertThat(sectionDao.findAllByLineId(lineServiceResponse.getId()).size()).isEqualTo(1);
     }
 
+    @DisplayName("연장, 분할, 병합을 거쳐도 노선의 역을 상행 종점부터 순서대로 찾아낸다.")
+    @Test
+    void findSortedStationIdsByLineId() {
+        final Long lineId = lineServiceResponse.getId();
+        final Station farUpStation = stationDao.save(잠실역);
+        final Station farDownStation = stationDao.save(성수역);
+        final Station middleStation = stationDao.save(new Station("건대입구역"));
+
+        sectionService.connect(new SectionServiceRequest(lineId, farUpStation.getId(), upStation.getId(), 5));
+        sectionService.connect(new SectionServiceRequest(lineId, downStation.getId(), farDownStation.getId(), 5));
+        sectionService.connect(new SectionServiceRequest(lineId, upStation.getId(), middleStation.getId(), 4));
+        sectionService.delete(lineId, upStation.getId());
+
+        assertThat(sectionService.findSortedStationIdsByLineId(lineId)).containsExactly(
+                farUpStation.getId(), middleStation.getId(), downStation.getId(), farDownStation.getId());
+    }
+
+    @DisplayName("구간 사이에 역을 추가하면 조회 2번과 위치 이동, 삭제, 저장 각 1번으로 끝낸다.")
+    @Test
+    void insertStatementCount() {
+        final Station middleStation = stationDao.save(잠실역);
+        statementCounter.reset();
+
+        sectionService.connect(
+                new SectionServiceRequest(lineServiceResponse.getId(), upStation.getId(), middleStation.getId(), 4));
+
+        assertThat(statementCounter.count()).isEqualTo(5);
+    }
+
+    @DisplayName("종점을 제거하면 조회와 삭제 각 1번으로 끝낸다.")
+    @Test
+    void deleteEndStationStatementCount() {
+        final Station farDownStation = stationDao.save(잠실역);
+        sectionService.connect(new SectionServiceRequest(
+                lineServiceResponse.getId(), downStation.getId(), farDownStation.getId(), 10));
+        statementCounter.reset();
+
+        sectionService.delete(lineServiceResponse.getId(), farDownStation.getId());
+
+        assertThat(statementCounter.count()).isEqualTo(2);
+    }
+
+    @DisplayName("중간역을 제거하면 조회, 삭제, 병합 구간 저장 각 1번으로 끝낸다.")
+    @Test
+    void deleteMiddleStationStatementCount() {
+        final Station farDownStation = stationDao.save(잠실역);
+        sectionService.connect(new SectionServiceRequest(
+                lineServiceResponse.getId(), downStation.getId(), farDownStation.getId(), 10));
+        statementCounter.reset();
+
+        sectionService.delete(lineServiceResponse.getId(), downStation.getId());
+
+        assertAll(
+                () -> assertThat(statementCounter.count()).isEqualTo(3),
+                () -> assertThat(sectionService.findSortedStationIdsByLineId(lineServiceResponse.getId()))
+                        .containsExactly(upStation.getId(), farDownStation.getId())
+        );
+    }
+
     @DisplayName("구간이 하나뿐인 노선에서 구간을 제거할 경우 예외가 발생한다.")
     @Test
     void deleteOnlySection() {
@@ -13,10 +13,22 @@ public class ServiceTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    protected RouteGraph routeGraph;
+
+    @Autowired
+    private ExtraFareIndex extraFareIndex;
+
+    @Autowired
+    private StationCache stationCache;
+
     @AfterEach
     public void reset() {
         jdbcTemplate.execute("DELETE FROM section");
         jdbcTemplate.execute("DELETE FROM station");
         jdbcTemplate.execute("DELETE FROM line");
+        routeGraph.refresh();
+        extraFareIndex.invalidate();
+        stationCache.clear();
     }
 }
@@ -0,0 +1,151 @@
+package wooteco.subway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jmx.export.annotation.AnnotationMBeanExporter;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.Station;
+import wooteco.subway.service.dto.StationServiceResponse;
+
+@SpringBootTest
+class StationCacheTest extends ServiceTest {
+
+    private final StationDao stationDao;
+    private final StationService stationService;
+    private final StationCache stationCache;
+
+    @Autowired
+    public StationCacheTest(StationDao stationDao, StationService stationService, StationCache stationCache) {
+        this.stationDao = stationDao;
+        this.stationService = stationService;
+        this.stationCache = stationCache;
+    }
+
+    @DisplayName("저장한 역은 DB 를 조회하지 않고 캐시에서 반환한다.")
+    @Test
+    void findSavedStation() {
+        final StationServiceResponse saved = stationService.save(강남역.getName());
+        final List<Long> loadedIds = new ArrayList<>();
+
+        final Station station = stationCache.get(saved.getId(), id -> {
+            loadedIds.add(id);
+            return stationDao.findById(id);
+        });
+
+        assertAll(
+                () -> assertThat(station.getName()).isEqualTo(강남역.getName()),
+                () -> assertThat(loadedIds).isEmpty()
+        );
+    }
+
+    @DisplayName("캐시에 없는 역은 DB 에서 조회해 캐시에 넣는다.")
+    @Test
+    void findMissingStation() {
+        final Station saved = stationDao.save(강남역);
+        final List<Long> loadedIds = new ArrayList<>();
+
+        stationCache.get(saved.getId(), id -> {
+            loadedIds.add(id);
+            return stationDao.findById(id);
+        });
+        stationCache.get(saved.getId(), id -> {
+            loadedIds.add(id);
+            return stationDao.findById(id);
+        });
+
+        assertThat(loadedIds).containsExactly(saved.getId());
+    }
+
+    @DisplayName("여러 역을 조회하면 캐시에 없는 역만 DB 에서 조회해 요청한 순서대로 반환한다.")
+    @Test
+    void findAllByIds() {
+        final StationServiceResponse cached = stationService.save(강남역.getName());
+        final Station notCached = stationDao.save(선릉역);
+        final List<Long> loadedIds = new ArrayList<>();
+
+        final List<Station> stations = stationCache.getAll(List.of(notCached.getId(), cached.getId()), ids -> {
+            loadedIds.addAll(ids);
+            return stationDao.findAllByIds(ids);
+        });
+
+        assertAll(
+                () -> assertThat(stations).extracting(Station::getName)
+                        .containsExactly(선릉역.getName(), 강남역.getName()),
+                () -> assertThat(loadedIds).containsExactly(notCached.getId())
+        );
+    }
+
+    @DisplayName("삭제한 역은 캐시에서 제거된다.")
+    @Test
+    void deleteById() {
+        final StationServiceResponse saved = stationService.save(강남역.getName());
+
+        stationService.deleteById(saved.getId());
+
+        assertThatThrownBy(() -> stationService.findById(saved.getId()))
+                .isInstanceOf(EmptyResultDataAccessException.class);
+    }
+
+    @DisplayName("캐시에 있는 역과 없는 역을 한 번씩 조회하면 적중 수와 실패 수가 하나씩 늘고 JMX 로 읽을 수 있다.")
+    @Test
+    void hitAndMissCount() throws Exception {
+        final Station warm = stationDao.save(강남역);
+        final StationCache cache = new StationCache(stationDao, 10);
+        cache.preload();
+        final Station cold = stationDao.save(선릉역);
+        final MBeanServer server = MBeanServerFactory.newMBeanServer();
+        final AnnotationMBeanExporter exporter = new AnnotationMBeanExporter();
+        exporter.setServer(server);
+        exporter.setAutodetect(false);
+        exporter.setBeans(Map.of("stationCache", cache));
+        exporter.afterSingletonsInstantiated();
+
+        cache.get(warm.getId(), stationDao::findById);
+        cache.get(cold.getId(), stationDao::findById);
+
+        final ObjectName objectName = new ObjectName(StationCache.OBJECT_NAME);
+        assertAll(
+                () -> assertThat(cache.getHitCount()).isEqualTo(1),
+                () -> assertThat(cache.getMissCount()).isEqualTo(1),
+                () -> assertThat(server.getAttribute(objectName, "HitCount")).isEqualTo(1L),
+                () -> assertThat(server.getAttribute(objectName, "MissCount")).isEqualTo(1L)
+        );
+        exporter.destroy();
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 역부터 제거한다.")
+    @Test
+    void evictEldest() {
+        final Station station1 = stationDao.save(강남역);
+        final Station station2 = stationDao.save(선릉역);
+        final Station station3 = stationDao.save(new Station("잠실역"));
+        final StationCache boundedCache = new StationCache(stationDao, 2);
+        boundedCache.preload();
+
+        boundedCache.get(station1.getId(), stationDao::findById);
+        boundedCache.put(station3);
+        final List<Long> loadedIds = new ArrayList<>();
+        boundedCache.get(station2.getId(), id -> {
+            loadedIds.add(id);
+            return stationDao.findById(id);
+        });
+
+        assertAll(
+                () -> assertThat(boundedCache.size()).isEqualTo(2),
+                () -> assertThat(loadedIds).containsExactly(station2.getId())
+        );
+    }
+}
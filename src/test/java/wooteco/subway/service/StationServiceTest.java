@@ -22,10 +22,12 @@ class StationServiceTest extends ServiceTest {
     private static final String 잠실역 = "잠실역";
 
     private final StationService stationService;
+    private final NetworkVersion networkVersion;
 
     @Autowired
-    public StationServiceTest(StationService stationService) {
+    public StationServiceTest(StationService stationService, NetworkVersion networkVersion) {
         this.stationService = stationService;
+        this.networkVersion = networkVersion;
     }
 
     @DisplayName("지하철 역을 저장한다.")
@@ -64,6 +66,19 @@ class StationServiceTest extends ServiceTest {
         );
     }
 
+    @DisplayName("id 목록에 해당하는 지하철역들을 요청한 순서대로 반환한다.")
+    @Test
+    void findAllByIds() {
+        final StationServiceResponse station1 = stationService.save(강남역);
+        final StationServiceResponse station2 = stationService.save(선릉역);
+
+        final List<Station> stations = stationService.findAllByIds(List.of(station2.getId(), station1.getId()));
+
+        assertThat(stations).containsExactly(
+                new Station(station2.getId(), 선릉역),
+                new Station(station1.getId(), 강남역));
+    }
+
     @DisplayName("노선에 해당하는 지하철역들을 반환한다.")
     @Test
     @Sql("classpath:lineStations.sql")
@@ -84,4 +99,15 @@ class StationServiceTest extends ServiceTest {
 
         assertThat(stationService.findAll().size()).isZero();
     }
+
+    @DisplayName("구간이 없는 역만 삭제할 수 있으므로 역을 삭제해도 경로 그래프와 경로 캐시를 무효화하지 않는다.")
+    @Test
+    void deleteByIdKeepsNetworkVersion() {
+        final StationServiceResponse stationServiceResponse = stationService.save(선릉역);
+        final long version = networkVersion.get();
+
+        stationService.deleteById(stationServiceResponse.getId());
+
+        assertThat(networkVersion.get()).isEqualTo(version);
+    }
 }
@@ -0,0 +1,82 @@
+package wooteco.subway.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 컨텍스트의 {@link DataSource} 를 감싸 실행된 SQL 문의 수를 센다.
+ * 배치는 {@code executeBatch} 한 번으로 보내지므로 한 번으로 센다.
+ */
+public class StatementCounter implements BeanPostProcessor {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource) {
+            return new CountingDataSource((DataSource) bean);
+        }
+        return bean;
+    }
+
+    public void reset() {
+        count.set(0);
+    }
+
+    public int count() {
+        return count.get();
+    }
+
+    private class CountingDataSource extends DelegatingDataSource {
+
+        private CountingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password));
+        }
+    }
+
+    private <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (target instanceof Connection && result instanceof Statement) {
+                return proxy(statementType(method.getReturnType()), (Statement) result);
+            }
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                count.incrementAndGet();
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<Statement> statementType(Class<?> returnType) {
+        return (Class<Statement>) returnType;
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
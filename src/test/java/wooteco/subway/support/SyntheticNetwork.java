@@ -0,0 +1,58 @@
+package wooteco.subway.support;
+
+import java.util.List;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+public class SyntheticNetwork {
+
+    private final List<Station> stations;
+    private final List<Line> lines;
+    private final List<Section> sections;
+
+    SyntheticNetwork(List<Station> stations, List<Line> lines, List<Section> sections) {
+        this.stations = List.copyOf(stations);
+        this.lines = List.copyOf(lines);
+        this.sections = List.copyOf(sections);
+    }
+
+    /**
+     * 역, 노선, 구간을 JDBC batch 로 적재한다. 생성된 id 를 그대로 넣으므로 역과 노선 테이블이 비어 있어야 한다.
+     */
+    public void insertInto(NamedParameterJdbcTemplate jdbcTemplate) {
+        validateEmpty(jdbcTemplate, "station");
+        validateEmpty(jdbcTemplate, "line");
+        jdbcTemplate.batchUpdate("INSERT INTO station (id, name) VALUES (:id, :name)",
+                SqlParameterSourceUtils.createBatch(stations));
+        jdbcTemplate.batchUpdate("INSERT INTO line (id, name, color, extra_fare) "
+                + "VALUES (:id, :name, :color, :extraFare)", SqlParameterSourceUtils.createBatch(lines));
+        new SectionDao(jdbcTemplate).saveAll(sections);
+    }
+
+    private void validateEmpty(NamedParameterJdbcTemplate jdbcTemplate, String table) {
+        Integer count = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+        if (count != 0) {
+            throw new IllegalStateException("역과 노선 테이블이 비어 있어야 합니다.");
+        }
+    }
+
+    public int getStationCount() {
+        return stations.size();
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public List<Section> getSections() {
+        return sections;
+    }
+}
@@ -0,0 +1,145 @@
+package wooteco.subway.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+/**
+ * 부하 테스트와 벤치마크용 합성 노선망 생성기. 도심역을 지나는 방사선, 방사선들을 차례로 잇는 순환선, 방사선에서 갈라지는 지선으로
+ * 노선망을 만들며, 방사선과 순환선이 만나는 역이 환승역이 된다. 노선은 순환할 수 없으므로 순환선의 마지막 구간은 잇지 않는다.
+ * 같은 시드와 역 수로 만들면 항상 같은 노선망이 나온다.
+ */
+public class SyntheticNetworkGenerator {
+
+    private static final int MIN_STATION_COUNT = 3;
+    private static final int MAX_RING_COUNT = 4;
+    private static final double ARM_RATIO = 0.6;
+    private static final double RING_RATIO = 0.25;
+    private static final int MAX_DISTANCE = 10;
+    private static final int[] EXTRA_FARES = {0, 0, 0, 0, 100, 200, 300, 500, 900};
+    private static final String[] COLORS = {"red", "orange", "yellow", "green", "blue", "navy", "purple", "brown"};
+
+    private final long seed;
+
+    public SyntheticNetworkGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public SyntheticNetwork generate(int stationCount) {
+        if (stationCount < MIN_STATION_COUNT) {
+            throw new IllegalArgumentException("역은 " + MIN_STATION_COUNT + "개 이상이어야 합니다.");
+        }
+        return new Draft(stationCount, new Random(seed)).build();
+    }
+
+    private static class Draft {
+
+        private final int stationCount;
+        private final Random random;
+        private final List<Station> stations;
+        private final List<Line> lines = new ArrayList<>();
+        private final List<Section> sections;
+        private int position;
+
+        private Draft(int stationCount, Random random) {
+            this.stationCount = stationCount;
+            this.random = random;
+            this.stations = new ArrayList<>(stationCount);
+            this.sections = new ArrayList<>(stationCount * 2);
+        }
+
+        private SyntheticNetwork build() {
+            int radialCount = Math.max(1, (int) Math.round(Math.sqrt(stationCount) / 5));
+            int armCount = radialCount * 2;
+            int armLength = Math.max(1, (int) (ARM_RATIO * (stationCount - 1) / armCount));
+            int ringCount = Math.min(Math.min(MAX_RING_COUNT, Math.max(0, (int) Math.log10(stationCount) - 1)),
+                    armLength - 1);
+
+            long center = addStation();
+            long[][] arms = new long[armCount][armLength];
+            for (long[] arm : arms) {
+                for (int position = 0; position < armLength; position++) {
+                    arm[position] = addStation();
+                }
+            }
+            for (int radial = 0; radial < radialCount; radial++) {
+                addRadialLine(center, arms[radial], arms[radial + radialCount]);
+            }
+
+            int ringBudget = (int) (RING_RATIO * (stationCount - 1));
+            int ringWeight = ringCount * (ringCount + 1) / 2;
+            for (int ring = 1; ring <= ringCount; ring++) {
+                int position = armLength * ring / (ringCount + 1) - 1;
+                int stationsPerGap = ringBudget * ring / ringWeight / (armCount - 1);
+                addRingLine(arms, position, stationsPerGap);
+            }
+
+            int remaining = stationCount - stations.size();
+            int branchCount = Math.min(remaining, radialCount);
+            for (int branch = 0; branch < branchCount; branch++) {
+                long[] arm = arms[random.nextInt(armCount)];
+                int length = remaining / branchCount + (branch < remaining % branchCount ? 1 : 0);
+                addBranchLine(arm[random.nextInt(armLength)], length);
+            }
+            return new SyntheticNetwork(stations, lines, sections);
+        }
+
+        private void addRadialLine(long center, long[] arm, long[] oppositeArm) {
+            long lineId = addLine("방사");
+            for (int position = 1; position < arm.length; position++) {
+                addSection(lineId, arm[position - 1], arm[position]);
+            }
+            addSection(lineId, arm[arm.length - 1], center);
+            long previous = center;
+            for (long station : oppositeArm) {
+                addSection(lineId, previous, station);
+                previous = station;
+            }
+        }
+
+        private void addRingLine(long[][] arms, int position, int stationsPerGap) {
+            long lineId = addLine("순환");
+            long previous = arms[0][position];
+            for (int arm = 1; arm < arms.length; arm++) {
+                for (int i = 0; i < stationsPerGap; i++) {
+                    long station = addStation();
+                    addSection(lineId, previous, station);
+                    previous = station;
+                }
+                addSection(lineId, previous, arms[arm][position]);
+                previous = arms[arm][position];
+            }
+        }
+
+        private void addBranchLine(long junction, int length) {
+            long lineId = addLine("지선");
+            long previous = junction;
+            for (int i = 0; i < length; i++) {
+                long station = addStation();
+                addSection(lineId, previous, station);
+                previous = station;
+            }
+        }
+
+        private long addStation() {
+            long id = stations.size() + 1;
+            stations.add(new Station(id, "합성" + id + "역"));
+            return id;
+        }
+
+        private long addLine(String kind) {
+            long id = lines.size() + 1;
+            position = 0;
+            lines.add(new Line(id, kind + id + "호선", COLORS[(int) (id % COLORS.length)],
+                    EXTRA_FARES[random.nextInt(EXTRA_FARES.length)]));
+            return id;
+        }
+
+        private void addSection(long lineId, long upStationId, long downStationId) {
+            sections.add(new Section(lineId, upStationId, downStationId, random.nextInt(MAX_DISTANCE) + 1, position++));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package wooteco.subway.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import wooteco.subway.domain.Path;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Sections;
+
+class SyntheticNetworkGeneratorTest {
+
+    @DisplayName("요청한 수만큼의 역을 모두 하나로 연결된 노선망으로 만든다.")
+    @ParameterizedTest
+    @ValueSource(ints = {3, 10, 100, 1000, 10000})
+    void generate(final int stationCount) {
+        final SyntheticNetwork network = new SyntheticNetworkGenerator(42L).generate(stationCount);
+
+        final Path path = new Path(new Sections(network.getSections()));
+
+        assertAll(
+                () -> assertThat(network.getStationCount()).isEqualTo(stationCount),
+                () -> assertThat(path.findReachable(1L, Integer.MAX_VALUE, lineId -> 0)).hasSize(stationCount - 1)
+        );
+    }
+
+    @DisplayName("모든 노선은 같은 역을 두 번 지나지 않는 하나의 구간 사슬이다.")
+    @Test
+    void generateSingleChainLines() {
+        final SyntheticNetwork network = new SyntheticNetworkGenerator(42L).generate(1000);
+
+        final Map<Long, List<Section>> sectionsByLine = network.getSections().stream()
+                .collect(Collectors.groupingBy(Section::getLineId));
+
+        assertThat(sectionsByLine).hasSize(network.getLines().size());
+        sectionsByLine.values().forEach(sections -> {
+            sections.sort(Comparator.comparingInt(Section::getPosition));
+            final Set<Long> stationIds = new HashSet<>(List.of(sections.get(0).getUpStationId()));
+            for (int i = 0; i < sections.size(); i++) {
+                if (i > 0) {
+                    assertThat(sections.get(i).getUpStationId()).isEqualTo(sections.get(i - 1).getDownStationId());
+                }
+                stationIds.add(sections.get(i).getDownStationId());
+            }
+            assertThat(stationIds).hasSize(sections.size() + 1);
+        });
+    }
+
+    @DisplayName("방사선과 순환선이 만나는 역은 여러 노선이 지나는 환승역이 된다.")
+    @Test
+    void generateTransferStations() {
+        final SyntheticNetwork network = new SyntheticNetworkGenerator(42L).generate(1000);
+
+        final Map<Long, Set<Long>> linesByStation = new HashMap<>();
+        for (final Section section : network.getSections()) {
+            linesByStation.computeIfAbsent(section.getUpStationId(), id -> new HashSet<>()).add(section.getLineId());
+            linesByStation.computeIfAbsent(section.getDownStationId(), id -> new HashSet<>()).add(section.getLineId());
+        }
+
+        assertThat(linesByStation.values().stream().filter(lineIds -> lineIds.size() > 1).count())
+                .isGreaterThan(network.getLines().size());
+    }
+
+    @DisplayName("같은 시드로 만든 노선망은 구간과 추가 요금까지 같다.")
+    @Test
+    void generateReproducible() {
+        final SyntheticNetwork network = new SyntheticNetworkGenerator(7L).generate(1000);
+        final SyntheticNetwork other = new SyntheticNetworkGenerator(7L).generate(1000);
+
+        assertAll(
+                () -> assertThat(other.getSections()).isEqualTo(network.getSections()),
+                () -> assertThat(other.getLines()).usingRecursiveFieldByFieldElementComparator()
+                        .isEqualTo(network.getLines())
+        );
+    }
+
+    @DisplayName("역이 3개보다 적으면 예외가 발생한다.")
+    @Test
+    void generateTooSmall() {
+        assertThatThrownBy(() -> new SyntheticNetworkGenerator(42L).generate(2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("역은 3개 이상이어야 합니다.");
+    }
+}
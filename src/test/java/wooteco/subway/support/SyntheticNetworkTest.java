@@ -0,0 +1,47 @@
+package wooteco.subway.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@JdbcTest
+class SyntheticNetworkTest {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @DisplayName("생성한 역, 노선, 구간을 그대로 적재한다.")
+    @Test
+    void insertInto() {
+        final SyntheticNetwork network = new SyntheticNetworkGenerator(42L).generate(1000);
+
+        network.insertInto(jdbcTemplate);
+
+        assertAll(
+                () -> assertThat(count("station")).isEqualTo(1000),
+                () -> assertThat(count("line")).isEqualTo(network.getLines().size()),
+                () -> assertThat(count("section")).isEqualTo(network.getSections().size())
+        );
+    }
+
+    @DisplayName("역 테이블이 비어 있지 않으면 예외가 발생한다.")
+    @Test
+    void insertIntoNotEmpty() {
+        final SyntheticNetwork network = new SyntheticNetworkGenerator(42L).generate(10);
+        network.insertInto(jdbcTemplate);
+
+        assertThatThrownBy(() -> network.insertInto(jdbcTemplate))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("역과 노선 테이블이 비어 있어야 합니다.");
+    }
+
+    private int count(final String table) {
+        return jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
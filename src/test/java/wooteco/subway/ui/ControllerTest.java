@@ -8,6 +8,9 @@ import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.dao.LineDao;
 import wooteco.subway.dao.SectionDao;
 import wooteco.subway.dao.StationDao;
+import wooteco.subway.service.ExtraFareIndex;
+import wooteco.subway.service.RouteGraph;
+import wooteco.subway.service.StationCache;
 
 @SpringBootTest
 @Transactional
@@ -25,6 +28,15 @@ public class ControllerTest {
     @Autowired
     protected LineDao lineDao;
 
+    @Autowired
+    protected RouteGraph routeGraph;
+
+    @Autowired
+    private ExtraFareIndex extraFareIndex;
+
+    @Autowired
+    private StationCache stationCache;
+
     @AfterEach
     public void reset() {
         jdbcTemplate.execute("DELETE FROM section");
@@ -33,5 +45,8 @@ public class ControllerTest {
         jdbcTemplate.execute("ALTER TABLE station ALTER COLUMN id RESTART WITH 1");
         jdbcTemplate.execute("ALTER TABLE line ALTER COLUMN id RESTART WITH 1");
         jdbcTemplate.execute("ALTER TABLE section ALTER COLUMN id RESTART WITH 1");
+        routeGraph.refresh();
+        extraFareIndex.invalidate();
+        stationCache.clear();
     }
 }
@@ -32,6 +32,7 @@ class PathControllerTest extends ControllerTest {
         Line line = lineDao.save(new Line("2호선", "green", 0));
         sectionDao.save(new Section(line.getId(), station1.getId(), station2.getId(), 5));
         sectionDao.save(new Section(line.getId(), station2.getId(), station3.getId(), 5));
+        routeGraph.refresh();
 
         // when
         PathRequest pathRequest = new PathRequest(station1.getId(), station3.getId(), 20);
@@ -68,6 +69,7 @@ class PathControllerTest extends ControllerTest {
         Line line = lineDao.save(new Line("2호선", "green", 900));
         sectionDao.save(new Section(line.getId(), station1.getId(), station2.getId(), 5));
         sectionDao.save(new Section(line.getId(), station2.getId(), station3.getId(), 5));
+        routeGraph.refresh();
 
         // when
         PathRequest pathRequest = new PathRequest(station1.getId(), station3.getId(), 20);
@@ -104,6 +106,7 @@ class PathControllerTest extends ControllerTest {
         Line line = lineDao.save(new Line("2호선", "green", 0));
         sectionDao.save(new Section(line.getId(), station1.getId(), station2.getId(), 5));
         sectionDao.save(new Section(line.getId(), station2.getId(), station3.getId(), 5));
+        routeGraph.refresh();
 
         // when
         PathRequest pathRequest = new PathRequest(station1.getId(), station3.getId(), 10);
@@ -140,6 +143,7 @@ class PathControllerTest extends ControllerTest {
         Line line = lineDao.save(new Line("2호선", "green", 900));
         sectionDao.save(new Section(line.getId(), station1.getId(), station2.getId(), 5));
         sectionDao.save(new Section(line.getId(), station2.getId(), station3.getId(), 5));
+        routeGraph.refresh();
 
         // when
         PathRequest pathRequest = new PathRequest(station1.getId(), station3.getId(), 10);
@@ -176,6 +180,7 @@ class PathControllerTest extends ControllerTest {
         Line line = lineDao.save(new Line("2호선", "green", 0));
         sectionDao.save(new Section(line.getId(), station1.getId(), station2.getId(), 5));
         sectionDao.save(new Section(line.getId(), station2.getId(), station3.getId(), 5));
+        routeGraph.refresh();
 
         // when
         PathRequest pathRequest = new PathRequest(station1.getId(), station3.getId(), 15);
@@ -212,6 +217,7 @@ class PathControllerTest extends ControllerTest {
         Line line = lineDao.save(new Line("2호선", "green", 900));
         sectionDao.save(new Section(line.getId(), station1.getId(), station2.getId(), 5));
         sectionDao.save(new Section(line.getId(), station2.getId(), station3.getId(), 5));
+        routeGraph.refresh();
 
         // when
         PathRequest pathRequest = new PathRequest(station1.getId(), station3.getId(), 15);
@@ -248,6 +254,7 @@ class PathControllerTest extends ControllerTest {
         Line line = lineDao.save(new Line("2호선", "green", 0));
         sectionDao.save(new Section(line.getId(), station1.getId(), station2.getId(), 5));
         sectionDao.save(new Section(line.getId(), station2.getId(), station3.getId(), 5));
+        routeGraph.refresh();
 
         // when
         PathRequest pathRequest = new PathRequest(station1.getId(), station3.getId(), 5);
@@ -284,6 +291,7 @@ class PathControllerTest extends ControllerTest {
         Line line = lineDao.save(new Line("2호선", "green", 900));
         sectionDao.save(new Section(line.getId(), station1.getId(), station2.getId(), 5));
         sectionDao.save(new Section(line.getId(), station2.getId(), station3.getId(), 5));
+        routeGraph.refresh();
 
         // when
         PathRequest pathRequest = new PathRequest(station1.getId(), station3.getId(), 65);
@@ -319,6 +327,7 @@ class PathControllerTest extends ControllerTest {
         Station station3 = stationDao.save(new Station("잠실역"));
         Line line = lineDao.save(new Line("2호선", "green", 900));
         sectionDao.save(new Section(line.getId(), station1.getId(), station2.getId(), 5));
+        routeGraph.refresh();
 
         // when
         PathRequest pathRequest = new PathRequest(station1.getId(), station3.getId(), 10);
@@ -340,6 +349,7 @@ class PathControllerTest extends ControllerTest {
         sectionDao.save(new Section(line1.getId(), station1.getId(), station2.getId(), 5));
         Line line2 = lineDao.save(new Line("3호선", "orange", 900));
         sectionDao.save(new Section(line2.getId(), station3.getId(), station4.getId(), 5));
+        routeGraph.refresh();
 
         // when
         PathRequest pathRequest = new PathRequest(station1.getId(), station3.getId(), 10);
@@ -81,7 +81,7 @@ class SectionControllerTest extends ControllerTest {
         // then
         HttpStatus statusCode = response.getStatusCode();
         Sections sections = sectionDao.findAllByLineId(line.getId());
-        List<Long> stationIds = sections.getSortedStationIdsInSingleLine();
+        List<Long> stationIds = sectionDao.findSortedStationIdsByLineId(line.getId());
 
         assertAll(
                 () -> assertThat(statusCode).isEqualTo(HttpStatus.OK),
@@ -89,7 +89,7 @@ class SectionControllerTest extends ControllerTest {
                 () -> assertThat(sections.getSections()
                         .stream()
                         .map(Section::getDistance))
-                        .containsExactly(10, 5),
+                        .containsExactly(5, 10),
                 () -> assertThat(stationIds).hasSize(3),
                 () -> assertThat(stationIds.get(0)).isEqualTo(station1.getId()),
                 () -> assertThat(stationIds.get(1)).isEqualTo(station2.getId()),
@@ -114,7 +114,7 @@ class SectionControllerTest extends ControllerTest {
         // then
         HttpStatus statusCode = response.getStatusCode();
         Sections sections = sectionDao.findAllByLineId(line.getId());
-        List<Long> stationIds = sections.getSortedStationIdsInSingleLine();
+        List<Long> stationIds = sectionDao.findSortedStationIdsByLineId(line.getId());
 
         assertAll(
                 () -> assertThat(statusCode).isEqualTo(HttpStatus.OK),
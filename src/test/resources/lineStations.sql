@@ -25,14 +25,19 @@ create table if not exists section
     up_station_id   bigint                not null,
     down_station_id bigint                not null,
     distance        int                   not null,
+    position        int                   not null,
     primary key (id)
 );
 
+create index section_line_position_idx on section (line_id, position);
+create index section_line_up_station_idx on section (line_id, up_station_id);
+create index section_line_down_station_idx on section (line_id, down_station_id);
+
 insert into station (name) values ('강남역');
 insert into station (name) values ('선릉역');
 insert into station (name) values ('잠실역');
 
 insert into line (name, color, extra_fare) values ('2호선', 'green', 0);
 
-insert into section (line_id, up_station_id, down_station_id, distance) values (1, 1, 2, 10);
-insert into section (line_id, up_station_id, down_station_id, distance) values (1, 2, 3, 8);
+insert into section (line_id, up_station_id, down_station_id, distance, position) values (1, 1, 2, 10, 0);
+insert into section (line_id, up_station_id, down_station_id, distance, position) values (1, 2, 3, 8, 1);